@@ -0,0 +1,45 @@
+package com.arin.togetherlion.benchmark;
+
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.Participation;
+import com.arin.togetherlion.copurchasing.domain.ProductTotalCost;
+import com.arin.togetherlion.copurchasing.domain.ShippingCost;
+import com.arin.togetherlion.user.domain.User;
+
+import java.time.LocalDateTime;
+
+final class DomainFixtures {
+
+    private DomainFixtures() {
+    }
+
+    static User user(String nickname) {
+        return User.builder()
+                .email(nickname + "@togetherlion.com")
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+
+    // 참여자마다 상품 1개씩 구매한 게시물. 최대 상품 개수는 참여 수에 맞춘다.
+    static Copurchasing copurchasingWithParticipations(int participationCount) {
+        final User writer = user("writer");
+        final Copurchasing copurchasing = Copurchasing.builder()
+                .title("benchmark")
+                .productMinNumber(1)
+                .productMaxNumber(participationCount + 1)
+                .productTotalCost(new ProductTotalCost(1_000_000))
+                .shippingCost(new ShippingCost(3000))
+                .productUrl("url")
+                .purchasePhotoUrl("url")
+                .content("content")
+                .deadlineDate(LocalDateTime.now().plusDays(1))
+                .tradeDate(LocalDateTime.now().plusDays(2))
+                .writer(writer)
+                .purchaseNumber(1)
+                .build();
+        for (int i = 0; i < participationCount; i++)
+            copurchasing.addParticipation(new Participation(1, user("participant" + i), 1000));
+        return copurchasing;
+    }
+}
@@ -0,0 +1,41 @@
+package com.arin.togetherlion.benchmark;
+
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 참여 목록을 순회하는 합계와 카운터 컬럼을 비교하고, 참여 검증 비용을 참여 수별로 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipationsBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    private int participationCount;
+
+    private Copurchasing copurchasing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        copurchasing = DomainFixtures.copurchasingWithParticipations(participationCount);
+    }
+
+    @Benchmark
+    public int streamedTotalProductNumber() {
+        return copurchasing.getParticipations().getTotalProductNumber();
+    }
+
+    @Benchmark
+    public int counterTotalProductNumber() {
+        return copurchasing.getTotalProductNumber();
+    }
+
+    @Benchmark
+    public void validateReservation() {
+        copurchasing.validateReservation(1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.arin.togetherlion.benchmark;
+
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
+import com.arin.togetherlion.copurchasing.domain.dto.PriceQuoteResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 참여 시마다 호출되는 결제 금액 계산 (calculateIndividualCost 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentCostBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    private int participationCount;
+
+    @Param({"1", "3"})
+    private int purchaseNumber;
+
+    private Copurchasing copurchasing;
+    private CopurchasingSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        copurchasing = DomainFixtures.copurchasingWithParticipations(participationCount);
+        snapshot = new CopurchasingSnapshot(1L, copurchasing.getTitle(), copurchasing.getProductTotalCost().getValue(),
+                copurchasing.getShippingCost().getValue(), copurchasing.getProductMinNumber(), copurchasing.getProductMaxNumber(),
+                copurchasing.getTotalProductNumber(), participationCount, copurchasing.getDeadlineDate(),
+                copurchasing.getTradeDate(), null, CopurchasingStatus.RECRUITING, 0L);
+    }
+
+    @Benchmark
+    public int paymentCost() {
+        return copurchasing.getPaymentCost(purchaseNumber);
+    }
+
+    // 가격 확인 API 가 캐시된 요약으로 만드는 견적
+    @Benchmark
+    public PriceQuoteResponse quote() {
+        return PriceQuoteResponse.of(snapshot, purchaseNumber);
+    }
+
+    @Benchmark
+    public int remainingProductNumber() {
+        return copurchasing.getRemainingProductNumber();
+    }
+}
@@ -0,0 +1,29 @@
+package com.arin.togetherlion.benchmark;
+
+import com.arin.togetherlion.point.domain.Point;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointBenchmark {
+
+    private Point point;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        point = new Point(1_000_000);
+    }
+
+    @Benchmark
+    public int useAndAdd() {
+        point.use(1000);
+        point.add(1000);
+        return point.getAmount();
+    }
+}
@@ -0,0 +1,65 @@
+package com.arin.togetherlion.benchmark;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.Participation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 모집 완료된 게시물에 대한 참여 거절 비용. 스택 트레이스를 채우는 예외와 비교한다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionBenchmark {
+
+    private Copurchasing full;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        full = DomainFixtures.copurchasingWithParticipations(10);
+        full.addParticipation(new Participation(1, DomainFixtures.user("last"), 1000));
+    }
+
+    @Benchmark
+    public Object domainRejection() {
+        try {
+            full.validateReservation(1);
+            return null;
+        } catch (CustomException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    @Benchmark
+    public Object stackTraceRejection() {
+        try {
+            validateReservationWithStackTrace(1);
+            return null;
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+
+    // Copurchasing.validateReservation 과 같은 조건, 같은 호출 깊이에서 스택 트레이스를 채우는 예외를 새로 만들어 던진다.
+    private void validateReservationWithStackTrace(int purchaseNumber) {
+        validateReservationWithStackTrace(0, purchaseNumber);
+    }
+
+    private void validateReservationWithStackTrace(int pendingNumber, int purchaseNumber) {
+        final CopurchasingStatus status = full.getStatus();
+        if ((status != CopurchasingStatus.RECRUITING && status != CopurchasingStatus.FULL)
+                || full.getDeadlineDate().isBefore(LocalDateTime.now()))
+            throw new IllegalStateException(ErrorCode.RECRUITMENT_EXPIRED.getMessage());
+        if (status == CopurchasingStatus.FULL || full.getTotalProductNumber() + pendingNumber >= full.getProductMaxNumber())
+            throw new IllegalStateException(ErrorCode.RECRUITMENT_FULL.getMessage());
+        if (pendingNumber + purchaseNumber > full.getRemainingProductNumber())
+            throw new IllegalStateException(ErrorCode.EXCEEDS_REMAINING_NUMBER.getMessage());
+    }
+}
@@ -0,0 +1,217 @@
+package com.arin.togetherlion.loadtest;
+
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+// 작성/참여/참여 취소/삭제를 설정한 비율로 섞어 호출하고, 부하 이후 초과 모집·카운터 불일치·포인트 누수를 검사한다.
+// 요청 순서는 loadTest.seed 로 재현되며, 실행 간 차이는 동시 실행 순서에서만 생긴다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class CopurchasingMixLoadTest {
+
+    private static final int OPERATIONS = LoadRunner.intProperty("loadTest.operations", 2000);
+    private static final int CONCURRENCY = LoadRunner.intProperty("loadTest.concurrency", 32);
+    private static final int USERS = LoadRunner.intProperty("loadTest.users", 200);
+    private static final int POSTS = LoadRunner.intProperty("loadTest.posts", 20);
+    private static final long SEED = LoadRunner.intProperty("loadTest.seed", 42);
+    private static final String MIX = LoadRunner.property("loadTest.mix", "create:10,participate:60,cancel:20,delete:10");
+    private static final int INITIAL_POINT = 1_000_000;
+
+    private static final String CREATE = "create";
+    private static final String PARTICIPATE = "participate";
+    private static final String CANCEL = "cancel";
+    private static final String DELETE = "delete";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LoadRunner runner = new LoadRunner(CONCURRENCY);
+    private final List<Long> userIds = new ArrayList<>();
+    private final Map<Long, Long> writerByPostId = new ConcurrentHashMap<>();
+    private final List<Participant> participations = new CopyOnWriteArrayList<>();
+
+    @Test
+    void mixedOperations() throws Exception {
+        // given
+        userRepository.saveAll(IntStream.range(0, USERS).mapToObj(this::user).toList())
+                .forEach(user -> userIds.add(user.getId()));
+        for (int i = 0; i < POSTS; i++)
+            create(new SplittableRandom(SEED - i - 1));
+        final long initialPoints = (long) USERS * INITIAL_POINT;
+        final Map<String, Integer> weights = parseMix();
+
+        // when
+        final LoadRunner.Result result = runner.execute(OPERATIONS, i -> {
+            final SplittableRandom random = new SplittableRandom(SEED + i);
+            return switch (pick(weights, random)) {
+                case CREATE -> create(random);
+                case PARTICIPATE -> participate(random);
+                case CANCEL -> cancel(random);
+                default -> delete(random);
+            };
+        });
+
+        // then
+        result.report("mix").print();
+        for (String operation : weights.keySet())
+            result.report("mix", operation).print();
+
+        Assertions.assertThat(result.report("mix").getServerError()).as("5xx 응답 수").isZero();
+        Assertions.assertThat(oversoldPosts()).as("최대 상품 개수를 초과한 게시물").isEmpty();
+        Assertions.assertThat(driftedPosts()).as("참여 합계와 카운터가 다른 게시물").isEmpty();
+        Assertions.assertThat(currentPoints() + heldPayments()).as("사용자 잔액 + 참여 결제 포인트").isEqualTo(initialPoints);
+    }
+
+    private LoadRunner.Sample create(SplittableRandom random) {
+        final Long writerId = randomOf(userIds, random);
+        final LoadRunner.Exchange exchange = runner.send(CREATE, post("/copurchasings", """
+                {"title":"load-test","productTotalCost":%d,"shippingCost":3000,"productUrl":"url","purchasePhotoUrl":"url",
+                 "content":"content","productMinNumber":%d,"productMaxNumber":%d,"purchaseNumber":1,"writerId":%d,
+                 "deadlineDate":"%s","tradeDate":"%s"}""".formatted(
+                random.nextInt(10_000, 100_000), random.nextInt(1, 5), random.nextInt(5, 30), writerId,
+                LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(5))));
+        if (exchange.isSuccess()) {
+            final String location = exchange.response().headers().firstValue("Location").orElseThrow();
+            writerByPostId.put(Long.valueOf(location.substring(location.lastIndexOf('/') + 1)), writerId);
+        }
+        return exchange.sample();
+    }
+
+    // 남은 게시물이 없으면 게시물을 새로 만든다. 참여와 삭제 모두 대상 게시물이 있어야 한다.
+    private LoadRunner.Sample participate(SplittableRandom random) {
+        final List<Long> postIds = new ArrayList<>(writerByPostId.keySet());
+        if (postIds.isEmpty())
+            return create(random);
+        final Long postId = randomOf(postIds, random);
+        final Long participantId = randomOf(userIds, random);
+        final LoadRunner.Exchange exchange = runner.send(PARTICIPATE, post("/copurchasings/participate",
+                "{\"copurchasingId\":%d,\"purchaseNumber\":%d,\"participantId\":%d}".formatted(postId, random.nextInt(1, 4), participantId)));
+        if (exchange.isSuccess())
+            participations.add(new Participant(postId, participantId));
+        return exchange.sample();
+    }
+
+    // 참여 API 는 참여 id 를 반환하지 않으므로 취소 대상 id 는 DB 에서 찾는다. 조회 시간은 지연 시간에 포함되지 않는다.
+    private LoadRunner.Sample cancel(SplittableRandom random) {
+        if (participations.isEmpty())
+            return participate(random);
+        final Participant participant = participations.get(random.nextInt(participations.size()));
+        final Long participationId = jdbcTemplate.query(
+                "SELECT id FROM participation WHERE copurchasing_id = ? AND user_id = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, participant.postId(), participant.userId());
+        if (participationId == null)
+            return participate(random);
+        final LoadRunner.Exchange exchange = runner.send(CANCEL, request("/copurchasings/participate", "DELETE",
+                "{\"participationId\":%d,\"deleterId\":%d}".formatted(participationId, participant.userId())));
+        if (exchange.isSuccess())
+            participations.remove(participant);
+        return exchange.sample();
+    }
+
+    private LoadRunner.Sample delete(SplittableRandom random) {
+        final List<Long> postIds = new ArrayList<>(writerByPostId.keySet());
+        if (postIds.isEmpty())
+            return create(random);
+        final Long postId = randomOf(postIds, random);
+        final LoadRunner.Exchange exchange = runner.send(DELETE,
+                request("/copurchasings/" + postId, "DELETE", String.valueOf(writerByPostId.get(postId))));
+        if (exchange.isSuccess())
+            writerByPostId.remove(postId);
+        return exchange.sample();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return request(path, "POST", body);
+    }
+
+    private HttpRequest request(String path, String method, String body) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private List<Long> oversoldPosts() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM copurchasing WHERE total_product_number > product_max_number", Long.class);
+    }
+
+    private List<Long> driftedPosts() {
+        return jdbcTemplate.queryForList("SELECT c.id FROM copurchasing c " +
+                "WHERE c.status <> 'DELETED' AND (c.total_product_number <> " +
+                "(SELECT COALESCE(SUM(p.purchase_number), 0) FROM participation p WHERE p.copurchasing_id = c.id) " +
+                "OR c.participant_count <> (SELECT COUNT(*) FROM participation p WHERE p.copurchasing_id = c.id))", Long.class);
+    }
+
+    private long currentPoints() {
+        return entityManager.createQuery("SELECT COALESCE(SUM(u.point.amount), 0) FROM User u", Long.class).getSingleResult();
+    }
+
+    private long heldPayments() {
+        return entityManager.createQuery("SELECT COALESCE(SUM(p.paymentPoint.amount), 0) FROM Participation p", Long.class).getSingleResult();
+    }
+
+    private Map<String, Integer> parseMix() {
+        final Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : MIX.split(",")) {
+            final String[] pair = entry.trim().split(":");
+            weights.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return weights;
+    }
+
+    private String pick(Map<String, Integer> weights, SplittableRandom random) {
+        int point = random.nextInt(weights.values().stream().mapToInt(Integer::intValue).sum());
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0)
+                return entry.getKey();
+        }
+        throw new IllegalStateException();
+    }
+
+    private <T> T randomOf(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private User user(int index) {
+        final User user = User.builder()
+                .email("user" + index + "@togetherlion.com")
+                .password("password")
+                .nickname("user" + index)
+                .build();
+        user.getPoint().add(INITIAL_POINT);
+        return user;
+    }
+
+    private record Participant(Long postId, Long userId) {
+    }
+}
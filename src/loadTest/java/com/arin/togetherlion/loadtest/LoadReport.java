@@ -0,0 +1,73 @@
+package com.arin.togetherlion.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class LoadReport {
+
+    private static final Path RESULT_FILE = Path.of("build", "load-test", "results.csv");
+    private static final String HEADER = "name,concurrency,requests,success,clientError,serverError,throughput,p50Ms,p95Ms,p99Ms,maxMs";
+
+    private final String name;
+    private final int concurrency;
+    private final long[] sortedLatencies;
+    private final long success;
+    private final long clientError;
+    private final long serverError;
+    private final long elapsedNanos;
+
+    public LoadReport(String name, int concurrency, List<LoadRunner.Sample> samples, long elapsedNanos) {
+        this.name = name;
+        this.concurrency = concurrency;
+        this.sortedLatencies = samples.stream().mapToLong(LoadRunner.Sample::latencyNanos).sorted().toArray();
+        this.success = samples.stream().filter(LoadRunner.Sample::isSuccess).count();
+        this.serverError = samples.stream().filter(LoadRunner.Sample::isServerError).count();
+        this.clientError = samples.size() - success - serverError;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getRequests() {
+        return sortedLatencies.length;
+    }
+
+    public long getSuccess() {
+        return success;
+    }
+
+    public long getClientError() {
+        return clientError;
+    }
+
+    public long getServerError() {
+        return serverError;
+    }
+
+    public double getThroughput() {
+        return sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(double percentile) {
+        if (sortedLatencies.length == 0)
+            return 0;
+        final int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    // 모드별 결과를 비교할 수 있도록 콘솔에 출력하고 build/load-test/results.csv 에 누적한다.
+    public LoadReport print() throws IOException {
+        final String line = String.format("%s,%d,%d,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f",
+                name, concurrency, getRequests(), success, clientError, serverError, getThroughput(),
+                percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100));
+        System.out.println(HEADER);
+        System.out.println(line);
+
+        Files.createDirectories(RESULT_FILE.getParent());
+        if (Files.notExists(RESULT_FILE))
+            Files.writeString(RESULT_FILE, HEADER + System.lineSeparator());
+        Files.writeString(RESULT_FILE, line + System.lineSeparator(), StandardOpenOption.APPEND);
+        return this;
+    }
+}
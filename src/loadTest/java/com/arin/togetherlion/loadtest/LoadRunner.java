@@ -0,0 +1,97 @@
+package com.arin.togetherlion.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+// 고정된 동시성으로 작업을 실행하고 작업별 지연 시간과 응답 코드를 모은다.
+public class LoadRunner {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int concurrency;
+
+    public LoadRunner(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public LoadReport run(String name, int requests, IntFunction<HttpRequest> requestFactory) throws Exception {
+        return execute(requests, i -> send(name, requestFactory.apply(i)).sample()).report(name);
+    }
+
+    // task 는 요청 하나를 보내고 그 Sample 을 반환한다. 요청 전후의 준비/기록 작업은 지연 시간에 포함되지 않는다.
+    public Result execute(int count, IntFunction<Sample> task) throws Exception {
+        final ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            final List<Future<Sample>> futures = new ArrayList<>(count);
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                final int index = i;
+                futures.add(clients.submit(() -> task.apply(index)));
+            }
+            final List<Sample> samples = new ArrayList<>(count);
+            for (Future<Sample> future : futures)
+                samples.add(future.get());
+            return new Result(concurrency, samples, System.nanoTime() - start);
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    public Exchange send(String operation, HttpRequest request) {
+        final long start = System.nanoTime();
+        try {
+            final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return new Exchange(new Sample(operation, response.statusCode(), System.nanoTime() - start), response);
+        } catch (Exception e) {
+            return new Exchange(new Sample(operation, -1, System.nanoTime() - start), null);
+        }
+    }
+
+    public record Exchange(Sample sample, HttpResponse<String> response) {
+
+        public boolean isSuccess() {
+            return sample.isSuccess();
+        }
+    }
+
+    public record Sample(String operation, int status, long latencyNanos) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public boolean isServerError() {
+            return status < 0 || status >= 500;
+        }
+    }
+
+    public record Result(int concurrency, List<Sample> samples, long elapsedNanos) {
+
+        public LoadReport report(String name) {
+            return new LoadReport(name, concurrency, samples, elapsedNanos);
+        }
+
+        public LoadReport report(String name, String operation) {
+            return new LoadReport(name + "-" + operation, concurrency,
+                    samples.stream().filter(sample -> sample.operation().equals(operation)).toList(), elapsedNanos);
+        }
+    }
+
+    public static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static String property(String key, String defaultValue) {
+        return System.getProperty(key, defaultValue);
+    }
+}
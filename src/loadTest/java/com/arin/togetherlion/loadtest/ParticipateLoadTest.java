@@ -0,0 +1,95 @@
+package com.arin.togetherlion.loadtest;
+
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.ProductTotalCost;
+import com.arin.togetherlion.copurchasing.domain.ShippingCost;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// 참여 API 를 스레드 모드별로 같은 조건에서 호출해 처리량과 p99 를 비교한다.
+// 두 모드 모두 loadtest 프로필의 커넥션 풀(20)과 같은 크기의 DB 동시성 제한을 쓰고, 하위 클래스는 요청 스레드 모델만 바꾼다.
+// 한 게시물에 참여가 몰려 대기가 길어지므로 허가 대기 시간을 늘려 503 으로 버리지 않고 끝까지 처리한 결과를 비교한다.
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.minimum-idle=20",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "copurchasing.db-concurrency.enabled=true",
+        "copurchasing.db-concurrency.permits=20",
+        "copurchasing.db-concurrency.acquire-timeout=PT30S"
+})
+abstract class ParticipateLoadTest {
+
+    private static final int REQUESTS = LoadRunner.intProperty("loadTest.requests", 2000);
+    private static final int CONCURRENCY = LoadRunner.intProperty("loadTest.concurrency", 64);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CopurchasingRepository copurchasingRepository;
+
+    abstract String mode();
+
+    @Test
+    void participate() throws Exception {
+        // given
+        final User writer = userRepository.save(user("writer"));
+        final Copurchasing copurchasing = copurchasingRepository.save(Copurchasing.builder()
+                .title("load-test")
+                .productMinNumber(1)
+                .productTotalCost(new ProductTotalCost(1000))
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(5))
+                .productMaxNumber(REQUESTS)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(new ShippingCost(1000))
+                .writer(writer)
+                .purchaseNumber(0)
+                .build());
+        final List<User> participants = userRepository.saveAll(IntStream.range(0, REQUESTS)
+                .mapToObj(i -> user("participant" + i))
+                .toList());
+
+        // when
+        final LoadReport report = new LoadRunner(CONCURRENCY).run("participate-" + mode(), REQUESTS, i -> HttpRequest.newBuilder()
+                        .uri(URI.create("http://localhost:" + port + "/copurchasings/participate"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"copurchasingId\":" + copurchasing.getId() +
+                                        ",\"purchaseNumber\":1,\"participantId\":" + participants.get(i).getId() + "}"))
+                        .build())
+                .print();
+
+        // then
+        Assertions.assertThat(report.getServerError()).isZero();
+        Assertions.assertThat(copurchasingRepository.findById(copurchasing.getId()).get().getTotalProductNumber())
+                .isEqualTo(report.getSuccess());
+    }
+
+    private User user(String nickname) {
+        final User user = User.builder()
+                .email(nickname + "@togetherlion.com")
+                .password("password")
+                .nickname(nickname)
+                .build();
+        user.getPoint().add(1_000_000);
+        return user;
+    }
+}
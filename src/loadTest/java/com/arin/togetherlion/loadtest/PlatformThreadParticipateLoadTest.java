@@ -0,0 +1,9 @@
+package com.arin.togetherlion.loadtest;
+
+class PlatformThreadParticipateLoadTest extends ParticipateLoadTest {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,16 @@
+package com.arin.togetherlion.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.TestPropertySource;
+
+// ./gradlew -PjavaVersion=21 loadTest
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadParticipateLoadTest extends ParticipateLoadTest {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
@@ -1,13 +1,26 @@
 package com.arin.togetherlion.common;
 
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
+
+// 비즈니스 거절은 정상 흐름의 일부라 스택 트레이스를 채우지 않고, 에러 코드마다 미리 만든 인스턴스를 재사용한다.
+// 스택 트레이스와 suppressed 예외를 기록하지 않으므로 여러 스레드가 같은 인스턴스를 던져도 상태가 바뀌지 않는다.
 @Getter
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 public class CustomException extends RuntimeException {
-    ErrorCode errorCode;
+
+    private static final CustomException[] INSTANCES = Arrays.stream(ErrorCode.values())
+            .map(CustomException::new)
+            .toArray(CustomException[]::new);
+
+    private final ErrorCode errorCode;
+
+    private CustomException(ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public static CustomException of(ErrorCode errorCode) {
+        return INSTANCES[errorCode.ordinal()];
+    }
 }
@@ -0,0 +1,53 @@
+package com.arin.togetherlion.common;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 가상 스레드 모드에서는 요청 스레드 수에 상한이 없어 커넥션 풀 대기가 몰린다.
+// 트랜잭션 시작 전에 허가를 받게 해 동시에 DB 를 쓰는 요청 수를 풀 크기로 제한하고, 초과분은 빠르게 503 으로 돌려보낸다.
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "copurchasing.db-concurrency.enabled", havingValue = "true")
+public class DbConcurrencyLimitAspect {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public DbConcurrencyLimitAspect(@Value("${copurchasing.db-concurrency.permits:20}") int permits,
+                                    @Value("${copurchasing.db-concurrency.acquire-timeout:PT2S}") Duration acquireTimeout) {
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Around("within(com.arin.togetherlion..service..*) && " +
+            "(@annotation(org.springframework.transaction.annotation.Transactional) || @within(org.springframework.transaction.annotation.Transactional))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 이미 허가를 받은 바깥 트랜잭션 안의 호출은 다시 받지 않는다.
+        if (TransactionSynchronizationManager.isActualTransactionActive())
+            return joinPoint.proceed();
+
+        if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS))
+            throw CustomException.of(ErrorCode.SERVER_BUSY);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -9,7 +9,33 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
 
     CANT_JOIN(HttpStatus.BAD_REQUEST, "공동구매에 이미 참여중 입니다."),
-    NO_PERMISSION(HttpStatus.UNAUTHORIZED, "삭제 권한이 없습니다.");
+    NO_PERMISSION(HttpStatus.UNAUTHORIZED, "삭제 권한이 없습니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청과 동시에 처리되어 실패했습니다. 잠시 후 다시 시도해주세요."),
+    QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "참여 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    PARTICIPATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "참여 요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 사용자입니다."),
+    COPURCHASING_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 공동구매 게시물입니다."),
+    PARTICIPATION_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 공동구매 참여입니다."),
+    PARTICIPATION_WITHOUT_COPURCHASING(HttpStatus.BAD_REQUEST, "존재하지 않는 공동구매에 대한 참여입니다."),
+    TICKET_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 참여 요청입니다."),
+    INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "페이지 크기는 1 이상 100 이하여야 합니다."),
+    INVALID_PAGE_NUMBER(HttpStatus.BAD_REQUEST, "페이지 번호는 0 이상이며, 검색 결과는 앞에서부터 1000건까지 조회할 수 있습니다."),
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어는 1자 이상 100자 이하로 입력해주세요."),
+    INVALID_PRODUCT_NUMBER_RANGE(HttpStatus.BAD_REQUEST, "최소 상품 개수는 최대 상품 개수보다 클 수 없습니다."),
+    INVALID_TRADE_DATE(HttpStatus.BAD_REQUEST, "거래 희망 일자는 모집 완료 일자 이후여야 합니다."),
+    NEGATIVE_COST(HttpStatus.BAD_REQUEST, "가격은 0 이상이어야 합니다."),
+    INVALID_PURCHASE_NUMBER(HttpStatus.BAD_REQUEST, "상품 구매 개수는 1 이상이여야 합니다."),
+    RECRUITMENT_EXPIRED(HttpStatus.BAD_REQUEST, "모집 기한이 만료된 공동구매는 참여할 수 없습니다."),
+    RECRUITMENT_FULL(HttpStatus.BAD_REQUEST, "최대 상품 개수가 모집된 공동구매는 참여할 수 없습니다."),
+    EXCEEDS_REMAINING_NUMBER(HttpStatus.BAD_REQUEST, "남은 상품 개수보다 많이 구매할 수 없습니다."),
+    ALREADY_STARTED_DELETE(HttpStatus.BAD_REQUEST, "이미 시작된 공동구매 게시물은 삭제할 수 없습니다."),
+    ALREADY_STARTED_CANCEL(HttpStatus.BAD_REQUEST, "이미 시작한 공동구매는 참여 취소가 불가합니다."),
+    ALREADY_REFUNDED_CANCEL(HttpStatus.BAD_REQUEST, "모집에 실패해 이미 환급된 공동구매는 참여 취소가 불가합니다."),
+    WRITER_CANT_CANCEL(HttpStatus.BAD_REQUEST, "작성자는 참여 취소가 불가합니다."),
+    INSUFFICIENT_POINT(HttpStatus.BAD_REQUEST, "포인트가 부족합니다."),
+    NEGATIVE_POINT_AMOUNT(HttpStatus.BAD_REQUEST, "포인트 연산에는 음수 사용이 불가합니다."),
+    NEGATIVE_POINT(HttpStatus.BAD_REQUEST, "포인트는 음수가 될 수 없습니다.");
 
     private final HttpStatus httpStatus;    // HttpStatus
     private final String message;            // 설명
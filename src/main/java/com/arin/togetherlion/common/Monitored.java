@@ -0,0 +1,14 @@
+package com.arin.togetherlion.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 클래스의 public 메서드마다 실행 시간과 결과(성공/실패, 에러 코드)를 value 이름의 관측으로 기록한다.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Monitored {
+
+    String value();
+}
@@ -0,0 +1,50 @@
+package com.arin.togetherlion.common;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 재시도(RetryOnConflictAspect)보다 바깥에서 실행되어 재시도와 백오프 대기를 포함한 전체 처리 시간을 잰다.
+// Observation 으로 기록하므로 메트릭(타이머, 히스토그램)과 함께 트레이싱 핸들러가 등록되면 스팬도 남는다.
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 3)
+@RequiredArgsConstructor
+public class MonitoredAspect {
+
+    private static final String NONE = "NONE";
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("@within(monitored) && execution(public * *(..))")
+    public Object observe(ProceedingJoinPoint joinPoint, Monitored monitored) throws Throwable {
+        final Observation observation = Observation.createNotStarted(monitored.value(), observationRegistry)
+                .lowCardinalityKeyValue("method", joinPoint.getSignature().getName())
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            final Object result = joinPoint.proceed();
+            observation.lowCardinalityKeyValues(KeyValues.of("outcome", "success", "errorCode", NONE));
+            return result;
+        } catch (Throwable e) {
+            observation.lowCardinalityKeyValues(KeyValues.of("outcome", "failure", "errorCode", errorCode(e)));
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // 에러 코드가 없는 예외는 태그 값이 무한히 늘지 않도록 예외 클래스 이름을 사용한다.
+    private String errorCode(Throwable e) {
+        if (e instanceof CustomException customException)
+            return customException.getErrorCode().name();
+        return e.getClass().getSimpleName();
+    }
+}
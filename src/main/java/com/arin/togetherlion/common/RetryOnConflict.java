@@ -0,0 +1,18 @@
+package com.arin.togetherlion.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 낙관적 락 충돌이나 교착 상태로 롤백된 경우 새 트랜잭션으로 다시 실행한다. @Transactional 메서드에 함께 붙인다.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    int maxAttempts() default 3;
+
+    long backoffMillis() default 20;
+
+    long maxBackoffMillis() default 200;
+}
@@ -0,0 +1,67 @@
+package com.arin.togetherlion.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 트랜잭션 어드바이스보다 바깥에서 실행되어야 재시도마다 새 트랜잭션이 열린다.
+// DB 동시성 제한(DbConcurrencyLimitAspect)보다도 바깥이라 백오프 대기 중에는 허가를 점유하지 않는다.
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+public class RetryOnConflictAspect {
+
+    private static final String CONFLICT_METRIC = "transaction.conflicts";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        // 바깥 트랜잭션에 참여한 경우 같은 트랜잭션 안에서 재시도해도 의미가 없다.
+        if (TransactionSynchronizationManager.isActualTransactionActive())
+            return joinPoint.proceed();
+
+        final String method = joinPoint.getSignature().toShortString();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+                // 교착 상태로 선택되어 롤백된 트랜잭션도 새 트랜잭션으로 다시 실행하면 대부분 성공한다.
+                final String type = e instanceof OptimisticLockingFailureException ? "optimistic" : "pessimistic";
+                if (attempt >= retryOnConflict.maxAttempts()) {
+                    conflictCounter(method, type, "exhausted").increment();
+                    throw CustomException.of(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                conflictCounter(method, type, "retried").increment();
+                Thread.sleep(backoff(retryOnConflict, attempt));
+            }
+        }
+    }
+
+    // 지수 백오프 상한 안에서 무작위로 기다려 충돌한 요청들이 같은 시점에 다시 몰리지 않게 한다.
+    private long backoff(RetryOnConflict retryOnConflict, int attempt) {
+        final long ceiling = Math.min(retryOnConflict.maxBackoffMillis(), retryOnConflict.backoffMillis() << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private Counter conflictCounter(String method, String type, String outcome) {
+        return Counter.builder(CONFLICT_METRIC)
+                .description("트랜잭션 락 충돌 횟수")
+                .tag("method", method)
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
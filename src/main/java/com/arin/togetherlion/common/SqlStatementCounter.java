@@ -0,0 +1,35 @@
+package com.arin.togetherlion.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// Hibernate 가 준비하는 SQL 문을 현재 스레드에 열린 측정 구간마다 센다.
+// 요청 구간 안에 트랜잭션 메서드 구간이 중첩될 수 있어 열린 구간 모두에 더한다.
+// 배치 insert/update 는 문장을 한 번 준비하므로 한 건으로 센다.
+// hibernate.session_factory.statement_inspector 설정으로 Hibernate 가 직접 생성한다.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Deque<int[]>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public String inspect(String sql) {
+        for (int[] count : SCOPES.get())
+            count[0]++;
+        return sql;
+    }
+
+    public static void start() {
+        SCOPES.get().push(new int[1]);
+    }
+
+    // 가장 최근에 연 구간을 닫고 그 구간에서 실행된 SQL 문 수를 반환한다.
+    public static int stop() {
+        final Deque<int[]> scopes = SCOPES.get();
+        final int[] count = scopes.poll();
+        if (scopes.isEmpty())
+            SCOPES.remove();
+        return count == null ? 0 : count[0];
+    }
+}
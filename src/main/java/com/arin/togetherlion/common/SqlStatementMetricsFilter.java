@@ -0,0 +1,55 @@
+package com.arin.togetherlion.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청마다 실행된 SQL 문 수를 URI 패턴별 히스토그램으로 남겨 N+1 이나 과도한 쿼리를 찾는다.
+// 요청 중 남는 로그(느린 쿼리 포함)에는 MDC 의 endpoint 로 요청이 함께 찍힌다.
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final String METRIC = "http.server.requests.sql.statements";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final String ENDPOINT = "endpoint";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        MDC.put(ENDPOINT, request.getMethod() + " " + request.getRequestURI());
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final int statements = SqlStatementCounter.stop();
+            DistributionSummary.builder(METRIC)
+                    .description("요청당 실행된 SQL 문 수")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+            MDC.remove(ENDPOINT);
+        }
+    }
+
+    // 경로 변수가 포함된 실제 URI 대신 매핑된 패턴을 사용해 태그 값이 늘어나지 않게 한다.
+    private String uri(HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
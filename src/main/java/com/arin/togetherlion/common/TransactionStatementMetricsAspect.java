@@ -0,0 +1,42 @@
+package com.arin.togetherlion.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 트랜잭션 서비스 메서드마다 실행된 SQL 문 수를 남겨 어떤 메서드에서 N+1 이 생기는지 찾는다.
+// 가장 바깥에서 실행되어 충돌 재시도로 다시 실행된 SQL 까지 포함한다.
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 4)
+@RequiredArgsConstructor
+public class TransactionStatementMetricsAspect {
+
+    private static final String METRIC = "transaction.sql.statements";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.arin.togetherlion..service..*) && " +
+            "(@annotation(org.springframework.transaction.annotation.Transactional) || @within(org.springframework.transaction.annotation.Transactional))")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatementCounter.start();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            final int statements = SqlStatementCounter.stop();
+            DistributionSummary.builder(METRIC)
+                    .description("트랜잭션 메서드당 실행된 SQL 문 수")
+                    .baseUnit("statements")
+                    .tag("method", joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
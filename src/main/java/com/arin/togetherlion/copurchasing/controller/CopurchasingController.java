@@ -1,15 +1,33 @@
 package com.arin.togetherlion.copurchasing.controller;
 
+import com.arin.togetherlion.copurchasing.domain.CopurchasingFilter;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingBulkCreateRequest;
 import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingDetailResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingPageResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
 import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.ParticipationTicket;
 import com.arin.togetherlion.copurchasing.domain.dto.ParticipationDeleteRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationTicketResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.PriceQuoteResponse;
+import com.arin.togetherlion.copurchasing.service.CopurchasingQueryService;
+import com.arin.togetherlion.copurchasing.service.CopurchasingSearchService;
 import com.arin.togetherlion.copurchasing.service.CopurchasingService;
+import com.arin.togetherlion.copurchasing.service.CopurchasingSnapshotService;
+import com.arin.togetherlion.copurchasing.service.ParticipationQueueService;
+import com.arin.togetherlion.copurchasing.service.PriceQuoteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/copurchasings")
@@ -17,6 +35,49 @@ import java.net.URI;
 public class CopurchasingController {
 
     private final CopurchasingService copurchasingService;
+    private final CopurchasingQueryService copurchasingQueryService;
+    private final ParticipationQueueService participationQueueService;
+    private final CopurchasingSnapshotService copurchasingSnapshotService;
+    private final PriceQuoteService priceQuoteService;
+    private final CopurchasingSearchService copurchasingSearchService;
+
+    @GetMapping
+    public ResponseEntity<CopurchasingPageResponse> findAll(
+            @RequestParam(name = "status", defaultValue = "OPEN") CopurchasingFilter status,
+            @RequestParam(name = "cursorDeadlineDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDeadlineDate,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(copurchasingQueryService.findAll(status, cursorDeadlineDate, cursorId, size));
+    }
+
+    // status 를 생략하면 모든 상태의 게시물에서 찾는다.
+    @GetMapping("/search")
+    public ResponseEntity<CopurchasingSearchResponse> search(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "status", required = false) CopurchasingFilter status,
+            @RequestParam(name = "deadlineFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineFrom,
+            @RequestParam(name = "deadlineTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineTo,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(copurchasingSearchService.search(keyword, status, deadlineFrom, deadlineTo, page, size));
+    }
+
+    @GetMapping("/{copurchasingId}")
+    public ResponseEntity<CopurchasingDetailResponse> findById(@PathVariable(name = "copurchasingId") Long copurchasingId) {
+        return ResponseEntity.ok(copurchasingQueryService.findById(copurchasingId));
+    }
+
+    // 캐시된 요약이라 모집 현황이 최대 캐시 만료 시간만큼 늦게 반영될 수 있다.
+    @GetMapping("/{copurchasingId}/summary")
+    public ResponseEntity<CopurchasingSnapshot> findSummary(@PathVariable(name = "copurchasingId") Long copurchasingId) {
+        return ResponseEntity.ok(copurchasingSnapshotService.find(copurchasingId));
+    }
+
+    @GetMapping("/{copurchasingId}/quote")
+    public ResponseEntity<PriceQuoteResponse> quote(@PathVariable(name = "copurchasingId") Long copurchasingId,
+                                                    @RequestParam(name = "purchaseNumber", defaultValue = "1") int purchaseNumber) {
+        return ResponseEntity.ok(priceQuoteService.quote(copurchasingId, purchaseNumber));
+    }
 
     @PostMapping
     public ResponseEntity<Void> create(@RequestBody @Valid CopurchasingCreateRequest request) {
@@ -24,6 +85,12 @@ public class CopurchasingController {
         return ResponseEntity.created(URI.create("/copurchasings/" + copurchasingId)).build();
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Long>> createAll(@RequestBody @Valid CopurchasingBulkCreateRequest request) {
+        final List<Long> copurchasingIds = copurchasingService.createAll(request.getCopurchasings());
+        return ResponseEntity.status(HttpStatus.CREATED).body(copurchasingIds);
+    }
+
     @DeleteMapping("/{copurchasingId}")
     public ResponseEntity<Void> delete(@PathVariable(name = "copurchasingId") Long copurchasingId, @RequestBody Long userId) {
         copurchasingService.delete(userId, copurchasingId);
@@ -36,6 +103,20 @@ public class CopurchasingController {
         return ResponseEntity.created(URI.create("/copurchasings/" + request.getCopurchasingId())).build();
     }
 
+    // 요청이 몰리는 게시물용. 대기열에 넣고 바로 202 를 반환하며, 결과는 Location 의 티켓으로 조회한다.
+    @PostMapping("/participate/queue")
+    public ResponseEntity<ParticipationTicketResponse> participateQueued(@RequestBody @Valid ParticipationCreateRequest request) {
+        final ParticipationTicket ticket = participationQueueService.enqueue(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/copurchasings/participate/queue/" + ticket.getId()))
+                .body(ParticipationTicketResponse.from(ticket));
+    }
+
+    @GetMapping("/participate/queue/{ticketId}")
+    public ResponseEntity<ParticipationTicketResponse> findTicket(@PathVariable(name = "ticketId") String ticketId) {
+        return ResponseEntity.ok(ParticipationTicketResponse.from(participationQueueService.findTicket(ticketId)));
+    }
+
     @DeleteMapping("/participate")
     public ResponseEntity<Void> deleteParticipation(@RequestBody @Valid ParticipationDeleteRequest request) {
         copurchasingService.participationDelete(request);
@@ -9,16 +9,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SQLRestriction("status <> 'DELETED'")
+@Table(indexes = @Index(name = "idx_copurchasing_status_deadline_date", columnList = "status, deadline_date, id"))
 public class Copurchasing extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "copurchasing_seq")
+    @SequenceGenerator(name = "copurchasing_seq", sequenceName = "copurchasing_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -60,9 +64,29 @@ public class Copurchasing extends BaseTimeEntity {
     @Embedded
     private Participations participations = new Participations();
 
+    @Column(name = "total_product_number", nullable = false)
+    private int totalProductNumber;
+
+    @Column(name = "participant_count", nullable = false)
+    private int participantCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CopurchasingStatus status;
+
+    @Version
+    private Long version;
+
+    // 저장 전의 새 게시물에만 쓴다. 저장된 게시물의 수량은 reserve/release 의 SET x = x + :n 으로만 바꿔
+    // 메모리의 값을 그대로 덮어써 동시 참여의 갱신을 잃지 않게 한다.
     public void addParticipation(Participation participation) {
-        validateParticipation(participation.getParticipant());
+        validateReservation(participation.getPurchaseNumber());
+        participation.assignCopurchasing(this);
         participations.add(participation);
+        totalProductNumber += participation.getPurchaseNumber();
+        participantCount++;
+        if (totalProductNumber >= productMaxNumber)
+            status = CopurchasingStatus.FULL;
     }
 
     @Builder
@@ -81,62 +105,76 @@ public class Copurchasing extends BaseTimeEntity {
         this.purchasePhotoUrl = purchasePhotoUrl;
         this.tradeDate = tradeDate;
         this.writer = writer;
+        this.status = CopurchasingStatus.RECRUITING;
     }
 
     private void validateNumber(int productMinNumber, int productMaxNumber) {
         if (productMaxNumber < productMinNumber)
-            throw new IllegalArgumentException("최소 상품 개수는 최대 상품 개수보다 클 수 없습니다.");
+            throw CustomException.of(ErrorCode.INVALID_PRODUCT_NUMBER_RANGE);
     }
 
     private void validateDate(LocalDateTime deadlineDate, LocalDateTime tradeDate) {
         if (tradeDate.isBefore(deadlineDate))
-            throw new IllegalArgumentException("거래 희망 일자는 모집 완료 일자 이후여야 합니다.");
+            throw CustomException.of(ErrorCode.INVALID_TRADE_DATE);
     }
 
+    // 마감 스케줄러가 저장한 상태를 우선 사용하고, 아직 처리되지 않은 게시물만 마감일로 판단한다.
     public boolean isStarted() {
+        if (!isRecruitingOrFull())
+            return status == CopurchasingStatus.STARTED;
         if (isDeadlineExpired()) {
-            if (participations.getTotalProductNumber() >= productMinNumber)
+            if (isMinNumberReached())
                 return true;
         }
         return false;
     }
 
+    public boolean isMinNumberReached() {
+        return totalProductNumber >= productMinNumber;
+    }
+
+    public boolean isFailed() {
+        return status == CopurchasingStatus.FAILED;
+    }
+
+    private boolean isRecruitingOrFull() {
+        return status == CopurchasingStatus.RECRUITING || status == CopurchasingStatus.FULL;
+    }
+
+    public int getRemainingProductNumber() {
+        return Math.max(productMaxNumber - totalProductNumber, 0);
+    }
+
     private boolean isDeadlineExpired() {
         if (getDeadlineDate().isBefore(LocalDateTime.now()))
             return true;
         return false;
     }
 
-    private void validateParticipation(User participant) {
-        if (participations.isParticipant(participant))
-            throw new CustomException(ErrorCode.CANT_JOIN);
-        if (isDeadlineExpired())
-            throw new IllegalArgumentException("모집 기한이 만료된 공동구매는 참여할 수 없습니다.");
-        if (participations.getTotalProductNumber() >= productMaxNumber)
-            throw new IllegalArgumentException("최대 상품 개수가 모집된 공동구매는 참여할 수 없습니다.");
+    public void validateReservation(int purchaseNumber) {
+        validateReservation(0, purchaseNumber);
     }
 
-    private int calculateIndividualCost(int totalCost, int totalProductNumber) {
-        return (int) Math.ceil((double) totalCost / totalProductNumber);
+    // pendingNumber: 같은 배치에서 이미 수락했지만 아직 반영되지 않은 상품 개수
+    public void validateReservation(int pendingNumber, int purchaseNumber) {
+        if (!isRecruitingOrFull() || isDeadlineExpired())
+            throw CustomException.of(ErrorCode.RECRUITMENT_EXPIRED);
+        if (status == CopurchasingStatus.FULL || totalProductNumber + pendingNumber >= productMaxNumber)
+            throw CustomException.of(ErrorCode.RECRUITMENT_FULL);
+        if (pendingNumber + purchaseNumber > getRemainingProductNumber())
+            throw CustomException.of(ErrorCode.EXCEEDS_REMAINING_NUMBER);
     }
 
     public int getPaymentCost(int purchaseNumber) {
         final int totalCost = getShippingCost().getValue() + getProductTotalCost().getValue();
-        if (isStarted()) {
-            final int individualCost = calculateIndividualCost(totalCost, participations.getTotalProductNumber());
-            return individualCost * purchaseNumber;
-        }
-        return calculateIndividualCost(totalCost, productMinNumber) * purchaseNumber;
+        final int productNumber = isStarted() ? totalProductNumber : productMinNumber;
+        return PriceCalculator.paymentCost(PriceCalculator.unitPrice(totalCost, productNumber), purchaseNumber);
     }
 
     public void validateDelete(User deleter) {
         if (!getWriter().isSameUser(deleter))
-            throw new CustomException(ErrorCode.NO_PERMISSION);
+            throw CustomException.of(ErrorCode.NO_PERMISSION);
         if (isStarted())
-            throw new IllegalArgumentException("이미 시작된 공동구매 게시물은 삭제할 수 없습니다.");
-    }
-
-    public void charge() {
-        participations.charge();
+            throw CustomException.of(ErrorCode.ALREADY_STARTED_DELETE);
     }
 }
@@ -0,0 +1,8 @@
+package com.arin.togetherlion.copurchasing.domain;
+
+public enum CopurchasingFilter {
+    OPEN,
+    FULL,
+    STARTED,
+    EXPIRED
+}
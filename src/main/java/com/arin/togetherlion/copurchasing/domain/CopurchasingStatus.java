@@ -0,0 +1,9 @@
+package com.arin.togetherlion.copurchasing.domain;
+
+public enum CopurchasingStatus {
+    RECRUITING,
+    FULL,
+    STARTED,
+    FAILED,
+    DELETED
+}
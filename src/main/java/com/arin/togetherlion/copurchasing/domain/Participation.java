@@ -16,9 +16,14 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = Participation.UNIQUE_PARTICIPANT_CONSTRAINT, columnNames = {"copurchasing_id", "user_id"}))
 public class Participation extends BaseTimeEntity {
+
+    public static final String UNIQUE_PARTICIPANT_CONSTRAINT = "uk_participation_copurchasing_participant";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participation_seq")
+    @SequenceGenerator(name = "participation_seq", sequenceName = "participation_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "purchase_number", nullable = false)
@@ -34,6 +39,10 @@ public class Participation extends BaseTimeEntity {
     @JoinColumn(name = "user_id")
     private User participant;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "copurchasing_id")
+    private Copurchasing copurchasing;
+
     public boolean isConfirm() {
         if (confirmDate == null)
             return false;
@@ -48,27 +57,28 @@ public class Participation extends BaseTimeEntity {
         this.paymentPoint = new Point(payment);
     }
 
-    private void validatePurchaseNumber(int purchaseNumber) {
-        if (purchaseNumber < 1)
-            throw new IllegalArgumentException("상품 구매 개수는 1 이상이여야 합니다.");
+    void assignCopurchasing(Copurchasing copurchasing) {
+        this.copurchasing = copurchasing;
     }
 
-    public boolean isParticipant(User participant) {
-        if (this.participant.isSameUser(participant))
-            return true;
-        return false;
+    // 수량 예약이 끝난 게시물의 참조와 연관관계만 맺는다. 게시물을 로딩하지 않도록 게시물의 참여 목록은 건드리지 않는다.
+    public void assignReservedCopurchasing(Copurchasing copurchasing) {
+        this.copurchasing = copurchasing;
+    }
+
+    private void validatePurchaseNumber(int purchaseNumber) {
+        if (purchaseNumber < 1)
+            throw CustomException.of(ErrorCode.INVALID_PURCHASE_NUMBER);
     }
 
     public void validateDeleteParticipation(Copurchasing copurchasing, User deleter) {
         if (copurchasing.isStarted())
-            throw new IllegalArgumentException("이미 시작한 공동구매는 참여 취소가 불가합니다.");
+            throw CustomException.of(ErrorCode.ALREADY_STARTED_CANCEL);
+        if (copurchasing.isFailed())
+            throw CustomException.of(ErrorCode.ALREADY_REFUNDED_CANCEL);
         if (!deleter.isSameUser(participant))
-            throw new CustomException(ErrorCode.NO_PERMISSION);
+            throw CustomException.of(ErrorCode.NO_PERMISSION);
         if (deleter.isSameUser(copurchasing.getWriter()))
-            throw new IllegalArgumentException("작성자는 참여 취소가 불가합니다.");
-    }
-
-    public void charge() {
-        participant.charge(paymentPoint.getAmount());
+            throw CustomException.of(ErrorCode.WRITER_CANT_CANCEL);
     }
 }
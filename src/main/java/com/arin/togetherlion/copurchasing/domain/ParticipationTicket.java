@@ -0,0 +1,54 @@
+package com.arin.togetherlion.copurchasing.domain;
+
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationOutcome;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 대기열 참여 요청의 처리 결과. 메모리에만 보관되며 처리 완료 후 일정 시간이 지나면 제거된다.
+@Getter
+public class ParticipationTicket {
+
+    private final String id;
+    private final ParticipationCreateRequest request;
+    private final LocalDateTime requestedAt;
+    private volatile ParticipationTicketStatus status;
+    private volatile Long participationId;
+    private volatile String failureMessage;
+    private volatile LocalDateTime completedAt;
+
+    public ParticipationTicket(ParticipationCreateRequest request) {
+        this.id = UUID.randomUUID().toString();
+        this.request = request;
+        this.requestedAt = LocalDateTime.now();
+        this.status = ParticipationTicketStatus.PENDING;
+    }
+
+    public void succeed(Long participationId) {
+        this.participationId = participationId;
+        complete(ParticipationTicketStatus.SUCCEEDED);
+    }
+
+    public void fail(String failureMessage) {
+        this.failureMessage = failureMessage;
+        complete(ParticipationTicketStatus.FAILED);
+    }
+
+    public void complete(ParticipationOutcome outcome) {
+        if (outcome.isSucceeded())
+            succeed(outcome.getParticipationId());
+        else
+            fail(outcome.getFailureMessage());
+    }
+
+    private void complete(ParticipationTicketStatus status) {
+        this.completedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public boolean isCompletedBefore(LocalDateTime time) {
+        return status != ParticipationTicketStatus.PENDING && completedAt.isBefore(time);
+    }
+}
@@ -0,0 +1,7 @@
+package com.arin.togetherlion.copurchasing.domain;
+
+public enum ParticipationTicketStatus {
+    PENDING,
+    SUCCEEDED,
+    FAILED
+}
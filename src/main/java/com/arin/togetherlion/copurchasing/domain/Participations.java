@@ -1,12 +1,12 @@
 package com.arin.togetherlion.copurchasing.domain;
 
-import com.arin.togetherlion.user.domain.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.OneToMany;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,25 +16,18 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Participations {
 
-    @OneToMany(orphanRemoval = true, cascade = CascadeType.ALL)
+    // 수량은 카운터 컬럼으로 버전 관리되므로 참여 목록 변경만으로 게시물 버전을 올리지 않는다.
+    @OptimisticLock(excluded = true)
+    @OneToMany(mappedBy = "copurchasing", orphanRemoval = true, cascade = CascadeType.ALL)
     private List<Participation> participations = new ArrayList<>();
 
     public void add(Participation participation) {
         participations.add(participation);
     }
 
-    public boolean isParticipant(User participant) {
-        return participations.stream()
-                .anyMatch(participation -> participation.isParticipant(participant));
-    }
-
     public int getTotalProductNumber() {
         return participations.stream()
                 .mapToInt(Participation::getPurchaseNumber)
                 .sum();
     }
-
-    public void charge() {
-        participations.stream().forEach(Participation::charge);
-    }
 }
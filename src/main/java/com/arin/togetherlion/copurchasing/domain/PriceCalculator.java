@@ -0,0 +1,21 @@
+package com.arin.togetherlion.copurchasing.domain;
+
+// 1인당 금액 계산. 정수 연산만 사용하고 1원 단위로 올려, 나눠 낸 금액의 합이 총액보다 작아지지 않게 한다.
+public final class PriceCalculator {
+
+    private PriceCalculator() {
+    }
+
+    public static int unitPrice(int totalCost, int productNumber) {
+        return -Math.floorDiv(-totalCost, productNumber);
+    }
+
+    // 참여 후 예상 수량이 최소 상품 개수보다 적으면 최소 개수 기준 금액을 그대로 낸다.
+    public static int projectedUnitPrice(int totalCost, int productMinNumber, int productNumber) {
+        return unitPrice(totalCost, Math.max(productMinNumber, productNumber));
+    }
+
+    public static int paymentCost(int unitPrice, int purchaseNumber) {
+        return Math.multiplyExact(unitPrice, purchaseNumber);
+    }
+}
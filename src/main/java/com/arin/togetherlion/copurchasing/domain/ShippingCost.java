@@ -1,5 +1,7 @@
 package com.arin.togetherlion.copurchasing.domain;
 
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
@@ -21,6 +23,6 @@ public class ShippingCost {
 
     private void validate(int value) {
         if (value < 0)
-            throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
+            throw CustomException.of(ErrorCode.NEGATIVE_COST);
     }
 }
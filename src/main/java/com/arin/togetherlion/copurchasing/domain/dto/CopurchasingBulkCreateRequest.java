@@ -0,0 +1,20 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CopurchasingBulkCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "등록할 공동구매 게시물은 1개 이상이어야 합니다.")
+    @Size(max = 1000, message = "한 번에 등록할 수 있는 공동구매 게시물은 최대 1000개입니다.")
+    private List<CopurchasingCreateRequest> copurchasings;
+}
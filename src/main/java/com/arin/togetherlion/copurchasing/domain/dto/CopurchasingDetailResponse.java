@@ -0,0 +1,56 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CopurchasingDetailResponse {
+    private Long id;
+    private String title;
+    private String content;
+    private int productTotalCost;
+    private int shippingCost;
+    private String productUrl;
+    private LocalDateTime expirationDate;
+    private int productMinNumber;
+    private int productMaxNumber;
+    private int totalProductNumber;
+    private int remainingProductNumber;
+    private int unitPrice;
+    private LocalDateTime deadlineDate;
+    private LocalDateTime tradeDate;
+    private String purchasePhotoUrl;
+    private Long writerId;
+    private String writerNickname;
+    private List<String> participantNicknames;
+
+    public static CopurchasingDetailResponse of(Copurchasing copurchasing, List<String> participantNicknames) {
+        return new CopurchasingDetailResponse(
+                copurchasing.getId(),
+                copurchasing.getTitle(),
+                copurchasing.getContent(),
+                copurchasing.getProductTotalCost().getValue(),
+                copurchasing.getShippingCost().getValue(),
+                copurchasing.getProductUrl(),
+                copurchasing.getExpirationDate(),
+                copurchasing.getProductMinNumber(),
+                copurchasing.getProductMaxNumber(),
+                copurchasing.getTotalProductNumber(),
+                copurchasing.getRemainingProductNumber(),
+                copurchasing.getPaymentCost(1),
+                copurchasing.getDeadlineDate(),
+                copurchasing.getTradeDate(),
+                copurchasing.getPurchasePhotoUrl(),
+                copurchasing.getWriter().getId(),
+                copurchasing.getWriter().getNickname(),
+                participantNicknames);
+    }
+}
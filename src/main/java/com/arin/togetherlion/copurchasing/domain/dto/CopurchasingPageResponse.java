@@ -0,0 +1,29 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CopurchasingPageResponse {
+    private List<CopurchasingSummaryResponse> copurchasings;
+    private boolean hasNext;
+    private LocalDateTime nextCursorDeadlineDate;
+    private Long nextCursorId;
+
+    public static CopurchasingPageResponse of(List<CopurchasingSummaryResponse> fetched, int size) {
+        final boolean hasNext = fetched.size() > size;
+        final List<CopurchasingSummaryResponse> copurchasings = hasNext ? fetched.subList(0, size) : fetched;
+        if (!hasNext)
+            return new CopurchasingPageResponse(copurchasings, false, null, null);
+
+        final CopurchasingSummaryResponse last = copurchasings.get(copurchasings.size() - 1);
+        return new CopurchasingPageResponse(copurchasings, true, last.getDeadlineDate(), last.getId());
+    }
+}
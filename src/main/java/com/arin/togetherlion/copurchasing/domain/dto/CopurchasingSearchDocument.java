@@ -0,0 +1,18 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 검색 색인에 넣는 게시물 필드
+@Getter
+@AllArgsConstructor
+public class CopurchasingSearchDocument {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final CopurchasingStatus status;
+    private final LocalDateTime deadlineDate;
+}
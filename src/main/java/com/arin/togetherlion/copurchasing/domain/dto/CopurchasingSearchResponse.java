@@ -0,0 +1,23 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CopurchasingSearchResponse {
+    private List<CopurchasingSearchResult> copurchasings;
+    private boolean hasNext;
+
+    // fetched 는 요청한 페이지까지의 검색 결과에 다음 페이지 확인용 한 건을 더해 조회한 것이다.
+    public static CopurchasingSearchResponse of(List<CopurchasingSearchResult> fetched, int page, int size) {
+        final int from = Math.min(page * size, fetched.size());
+        final int to = Math.min(from + size, fetched.size());
+        return new CopurchasingSearchResponse(fetched.subList(from, to), fetched.size() > to);
+    }
+}
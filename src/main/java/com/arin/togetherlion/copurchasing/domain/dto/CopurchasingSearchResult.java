@@ -0,0 +1,20 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CopurchasingSearchResult {
+    private Long id;
+    private String title;
+    private CopurchasingStatus status;
+    private LocalDateTime deadlineDate;
+    private float score;
+}
@@ -0,0 +1,67 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.PriceCalculator;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 캐시에 담겨 여러 요청이 함께 읽는 게시물 요약. 필드를 바꿀 수 없어 스레드 간에 그대로 공유한다.
+// 모집 현황이 바뀔 때마다 버전이 올라가고 캐시가 무효화되므로, 만들 때 계산한 1인당 금액은 (게시물, 버전) 별로 한 번만 계산된다.
+@Getter
+public class CopurchasingSnapshot {
+    private final Long id;
+    private final String title;
+    private final int productTotalCost;
+    private final int shippingCost;
+    private final int productMinNumber;
+    private final int productMaxNumber;
+    private final int totalProductNumber;
+    private final int participantCount;
+    private final LocalDateTime deadlineDate;
+    private final LocalDateTime tradeDate;
+    private final String purchasePhotoUrl;
+    private final CopurchasingStatus status;
+    private final Long version;
+    private final int guaranteedUnitPrice;
+    private final int currentUnitPrice;
+
+    public CopurchasingSnapshot(Long id, String title, int productTotalCost, int shippingCost, int productMinNumber,
+                                int productMaxNumber, int totalProductNumber, int participantCount,
+                                LocalDateTime deadlineDate, LocalDateTime tradeDate, String purchasePhotoUrl,
+                                CopurchasingStatus status, Long version) {
+        this.id = id;
+        this.title = title;
+        this.productTotalCost = productTotalCost;
+        this.shippingCost = shippingCost;
+        this.productMinNumber = productMinNumber;
+        this.productMaxNumber = productMaxNumber;
+        this.totalProductNumber = totalProductNumber;
+        this.participantCount = participantCount;
+        this.deadlineDate = deadlineDate;
+        this.tradeDate = tradeDate;
+        this.purchasePhotoUrl = purchasePhotoUrl;
+        this.status = status;
+        this.version = version;
+        this.guaranteedUnitPrice = PriceCalculator.unitPrice(getTotalCost(), productMinNumber);
+        this.currentUnitPrice = PriceCalculator.projectedUnitPrice(getTotalCost(), productMinNumber, totalProductNumber);
+    }
+
+    private int getTotalCost() {
+        return productTotalCost + shippingCost;
+    }
+
+    public int getRemainingProductNumber() {
+        return Math.max(productMaxNumber - totalProductNumber, 0);
+    }
+
+    // 모집 중인 게시물의 결제 포인트. 가격과 최소 상품 개수는 바뀌지 않아 캐시된 값으로 계산해도 된다.
+    public int getRecruitingPaymentCost(int purchaseNumber) {
+        return PriceCalculator.paymentCost(guaranteedUnitPrice, purchaseNumber);
+    }
+
+    // 요청한 개수만큼 참여했을 때 현재 모집 수량 기준으로 예상되는 1인당 금액
+    public int getProjectedUnitPrice(int purchaseNumber) {
+        return PriceCalculator.projectedUnitPrice(getTotalCost(), productMinNumber, totalProductNumber + purchaseNumber);
+    }
+}
@@ -0,0 +1,25 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CopurchasingSummaryResponse {
+    private Long id;
+    private String title;
+    private int productTotalCost;
+    private int shippingCost;
+    private int productMinNumber;
+    private int productMaxNumber;
+    private int totalProductNumber;
+    private int participantCount;
+    private LocalDateTime deadlineDate;
+    private LocalDateTime tradeDate;
+    private String purchasePhotoUrl;
+}
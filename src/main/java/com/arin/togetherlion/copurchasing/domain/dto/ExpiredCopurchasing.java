@@ -0,0 +1,17 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 마감 배치가 (deadline_date, id) 커서로 다음 배치를 이어 읽는 데 쓴다.
+@Getter
+public class ExpiredCopurchasing {
+    private final Long id;
+    private final LocalDateTime deadlineDate;
+
+    public ExpiredCopurchasing(Long id, LocalDateTime deadlineDate) {
+        this.id = id;
+        this.deadlineDate = deadlineDate;
+    }
+}
@@ -0,0 +1,20 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ParticipantPayment {
+    private final Long copurchasingId;
+    private final Long participantId;
+    private final int amount;
+
+    public ParticipantPayment(Long participantId, Long amount) {
+        this(null, participantId, amount);
+    }
+
+    public ParticipantPayment(Long copurchasingId, Long participantId, Long amount) {
+        this.copurchasingId = copurchasingId;
+        this.participantId = participantId;
+        this.amount = Math.toIntExact(amount);
+    }
+}
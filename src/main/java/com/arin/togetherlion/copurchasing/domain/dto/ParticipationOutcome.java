@@ -0,0 +1,33 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParticipationOutcome {
+    private Long participationId;
+    private String failureMessage;
+
+    public static ParticipationOutcome success(Long participationId) {
+        return new ParticipationOutcome(participationId, null);
+    }
+
+    public static ParticipationOutcome failure(String failureMessage) {
+        return new ParticipationOutcome(null, failureMessage);
+    }
+
+    // 도메인 예외가 아닌 실패는 SQL 이나 드라이버 메시지가 티켓 조회 응답에 노출되지 않도록 일반 메시지로 바꾼다.
+    public static ParticipationOutcome failure(RuntimeException e) {
+        if (e instanceof CustomException customException)
+            return failure(customException.getErrorCode().getMessage());
+        return failure(ErrorCode.PARTICIPATION_FAILED.getMessage());
+    }
+
+    public boolean isSucceeded() {
+        return participationId != null;
+    }
+}
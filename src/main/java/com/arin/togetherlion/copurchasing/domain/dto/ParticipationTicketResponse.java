@@ -0,0 +1,28 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import com.arin.togetherlion.copurchasing.domain.ParticipationTicket;
+import com.arin.togetherlion.copurchasing.domain.ParticipationTicketStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ParticipationTicketResponse {
+    private String ticketId;
+    private Long copurchasingId;
+    private ParticipationTicketStatus status;
+    private Long participationId;
+    private String failureMessage;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public static ParticipationTicketResponse from(ParticipationTicket ticket) {
+        return new ParticipationTicketResponse(ticket.getId(), ticket.getRequest().getCopurchasingId(), ticket.getStatus(),
+                ticket.getParticipationId(), ticket.getFailureMessage(), ticket.getRequestedAt(), ticket.getCompletedAt());
+    }
+}
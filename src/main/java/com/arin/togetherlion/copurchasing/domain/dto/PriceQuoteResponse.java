@@ -0,0 +1,30 @@
+package com.arin.togetherlion.copurchasing.domain.dto;
+
+import com.arin.togetherlion.copurchasing.domain.PriceCalculator;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// guaranteed: 지금 참여하면 결제되는 최소 상품 개수 기준 금액
+// projected: 요청한 개수를 더한 현재 모집 수량 기준 예상 금액으로, 이후 참여가 늘면 더 낮아질 수 있다.
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceQuoteResponse {
+    private Long copurchasingId;
+    private Long version;
+    private int purchaseNumber;
+    private int guaranteedUnitPrice;
+    private int guaranteedPaymentCost;
+    private int projectedUnitPrice;
+    private int projectedPaymentCost;
+    private int remainingProductNumber;
+
+    public static PriceQuoteResponse of(CopurchasingSnapshot snapshot, int purchaseNumber) {
+        final int projectedUnitPrice = snapshot.getProjectedUnitPrice(purchaseNumber);
+        return new PriceQuoteResponse(snapshot.getId(), snapshot.getVersion(), purchaseNumber,
+                snapshot.getGuaranteedUnitPrice(), snapshot.getRecruitingPaymentCost(purchaseNumber),
+                projectedUnitPrice, PriceCalculator.paymentCost(projectedUnitPrice, purchaseNumber), snapshot.getRemainingProductNumber());
+    }
+}
@@ -0,0 +1,13 @@
+package com.arin.togetherlion.copurchasing.domain.event;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 마감일이 지나 시작(STARTED) 또는 실패(FAILED)로 전환되었다.
+@Getter
+@RequiredArgsConstructor
+public class CopurchasingClosedEvent implements CopurchasingEvent {
+    private final Long copurchasingId;
+    private final CopurchasingStatus status;
+}
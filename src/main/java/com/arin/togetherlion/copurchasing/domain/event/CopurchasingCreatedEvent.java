@@ -0,0 +1,18 @@
+package com.arin.togetherlion.copurchasing.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 작성자는 게시물을 만들면서 함께 참여하므로 작성자의 구매 개수와 결제 포인트를 함께 담는다.
+@Getter
+@RequiredArgsConstructor
+public class CopurchasingCreatedEvent implements CopurchasingEvent {
+    private final Long copurchasingId;
+    private final Long writerId;
+    private final String title;
+    private final LocalDateTime deadlineDate;
+    private final int purchaseNumber;
+    private final int paymentPoint;
+}
@@ -0,0 +1,10 @@
+package com.arin.togetherlion.copurchasing.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CopurchasingDeletedEvent implements CopurchasingEvent {
+    private final Long copurchasingId;
+}
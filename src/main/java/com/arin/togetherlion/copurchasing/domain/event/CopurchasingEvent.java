@@ -0,0 +1,7 @@
+package com.arin.togetherlion.copurchasing.domain.event;
+
+// 게시물의 모집 현황이나 상태를 바꾸는 변경. 구독자는 게시물 id 로 캐시 등 파생 데이터를 갱신한다.
+public interface CopurchasingEvent {
+
+    Long getCopurchasingId();
+}
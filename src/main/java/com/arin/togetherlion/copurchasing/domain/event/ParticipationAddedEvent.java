@@ -0,0 +1,18 @@
+package com.arin.togetherlion.copurchasing.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 구독자가 게시물을 다시 조회하지 않도록 목록 표시에 필요한 제목과 마감일을 함께 담는다.
+@Getter
+@RequiredArgsConstructor
+public class ParticipationAddedEvent implements CopurchasingEvent {
+    private final Long copurchasingId;
+    private final Long participantId;
+    private final int purchaseNumber;
+    private final int paymentPoint;
+    private final String title;
+    private final LocalDateTime deadlineDate;
+}
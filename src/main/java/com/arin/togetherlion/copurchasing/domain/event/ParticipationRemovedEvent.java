@@ -0,0 +1,12 @@
+package com.arin.togetherlion.copurchasing.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ParticipationRemovedEvent implements CopurchasingEvent {
+    private final Long copurchasingId;
+    private final Long participantId;
+    private final int purchaseNumber;
+}
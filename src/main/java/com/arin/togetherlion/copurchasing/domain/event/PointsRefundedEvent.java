@@ -0,0 +1,14 @@
+package com.arin.togetherlion.copurchasing.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+// 참여 취소, 게시물 삭제, 모집 실패로 참여자에게 결제 포인트를 돌려주었다.
+@Getter
+@RequiredArgsConstructor
+public class PointsRefundedEvent implements CopurchasingEvent {
+    private final Long copurchasingId;
+    private final Map<Long, Integer> amountsByParticipantId;
+}
@@ -1,18 +1,130 @@
 package com.arin.togetherlion.copurchasing.repository;
 
 import com.arin.togetherlion.copurchasing.domain.Copurchasing;
-import com.arin.togetherlion.copurchasing.domain.Participation;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchDocument;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSummaryResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CopurchasingRepository extends JpaRepository<Copurchasing, Long> {
 
-    @Query("SELECT c FROM Copurchasing c JOIN c.participations.participations p WHERE p = :participation")
-    Optional<Copurchasing> findByParticipation(@Param("participation") Participation participation);
+    String SELECT_SUMMARY = "SELECT new com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSummaryResponse(" +
+            "c.id, c.title, c.productTotalCost.value, c.shippingCost.value, c.productMinNumber, c.productMaxNumber, " +
+            "c.totalProductNumber, c.participantCount, c.deadlineDate, c.tradeDate, c.purchasePhotoUrl) " +
+            "FROM Copurchasing c ";
 
+    String AFTER_CURSOR = "(c.deadlineDate > :cursorDeadlineDate OR (c.deadlineDate = :cursorDeadlineDate AND c.id > :cursorId)) ";
+
+    String ORDER_BY_CURSOR = "ORDER BY c.deadlineDate, c.id";
+
+    String SELECT_SEARCH_DOCUMENT = "SELECT new com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchDocument(" +
+            "c.id, c.title, c.content, c.status, c.deadlineDate) " +
+            "FROM Copurchasing c ";
+
+    @EntityGraph(attributePaths = "writer")
+    Optional<Copurchasing> findWithWriterById(Long id);
+
+    @Query("SELECT new com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot(" +
+            "c.id, c.title, c.productTotalCost.value, c.shippingCost.value, c.productMinNumber, c.productMaxNumber, " +
+            "c.totalProductNumber, c.participantCount, c.deadlineDate, c.tradeDate, c.purchasePhotoUrl, c.status, c.version) " +
+            "FROM Copurchasing c WHERE c.id = :id")
+    Optional<CopurchasingSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query(SELECT_SEARCH_DOCUMENT + "WHERE c.id IN :ids")
+    List<CopurchasingSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 재구성용. id 순으로 끊어 읽는다.
+    @Query(SELECT_SEARCH_DOCUMENT + "WHERE c.id > :id ORDER BY c.id")
+    List<CopurchasingSearchDocument> findSearchDocumentsByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    @Query("SELECT new com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing(c.id, c.deadlineDate) " +
+            "FROM Copurchasing c WHERE c.status IN :statuses AND c.deadlineDate <= :now AND " + AFTER_CURSOR + ORDER_BY_CURSOR)
+    List<ExpiredCopurchasing> findExpired(@Param("statuses") Collection<CopurchasingStatus> statuses,
+                                          @Param("now") LocalDateTime now,
+                                          @Param("cursorDeadlineDate") LocalDateTime cursorDeadlineDate,
+                                          @Param("cursorId") Long cursorId,
+                                          Limit limit);
+
+    // 마감 처리 중 삭제·참여·취소가 끼어들지 못하도록 아직 상태가 바뀌지 않은 게시물 행만 id 순으로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Copurchasing> findAllByIdInAndStatusInOrderById(Collection<Long> ids, Collection<CopurchasingStatus> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Copurchasing c SET c.status = :status, c.version = c.version + 1 WHERE c.id IN :ids AND c.status IN :expectedStatuses")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("expectedStatuses") Collection<CopurchasingStatus> expectedStatuses,
+                     @Param("status") CopurchasingStatus status);
+
+    // MySQL 은 SET 절을 왼쪽부터 평가하며 앞서 갱신한 값을 사용하므로 status 를 수량보다 먼저 계산한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Copurchasing c SET " +
+            "c.status = CASE WHEN c.totalProductNumber + :purchaseNumber >= c.productMaxNumber " +
+            "THEN com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.FULL ELSE c.status END, " +
+            "c.totalProductNumber = c.totalProductNumber + :purchaseNumber, " +
+            "c.participantCount = c.participantCount + :participantCount, " +
+            "c.version = c.version + 1 " +
+            "WHERE c.id = :id " +
+            "AND c.status = com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.RECRUITING " +
+            "AND c.deadlineDate > :now " +
+            "AND c.totalProductNumber + :purchaseNumber <= c.productMaxNumber")
+    int reserve(@Param("id") Long id,
+                @Param("purchaseNumber") int purchaseNumber,
+                @Param("participantCount") int participantCount,
+                @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Copurchasing c SET " +
+            "c.status = CASE WHEN c.status = com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.FULL " +
+            "THEN com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.RECRUITING ELSE c.status END, " +
+            "c.totalProductNumber = c.totalProductNumber - :purchaseNumber, " +
+            "c.participantCount = c.participantCount - 1, " +
+            "c.version = c.version + 1 " +
+            "WHERE c.id = :id " +
+            "AND c.status IN (com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.RECRUITING, " +
+            "com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.FULL)")
+    int release(@Param("id") Long id, @Param("purchaseNumber") int purchaseNumber);
+
+    // 읽은 버전과 같을 때만 삭제해, 읽은 뒤 바뀐 상태나 참여 목록으로 삭제·환급하지 않게 한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Copurchasing c SET c.status = com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.DELETED, " +
+            "c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.version = :version " +
+            "AND c.status <> com.arin.togetherlion.copurchasing.domain.CopurchasingStatus.DELETED")
+    int softDeleteById(@Param("id") Long id, @Param("version") Long version);
+
+    // 삭제된 게시물도 포함해 현재 버전을 읽는다. 상태를 바꾼 트랜잭션 안에서 읽으면 행 잠금을 쥔 채 바꾼 뒤의 버전을 얻는다.
+    @Query(value = "SELECT c.version FROM copurchasing c WHERE c.id = :id", nativeQuery = true)
+    Long findVersionById(@Param("id") Long id);
+
+    // 모든 피드 쿼리는 (status, deadline_date, id) 인덱스의 범위 스캔으로 처리된다.
+    @Query(SELECT_SUMMARY +
+            "WHERE c.status = :status AND c.deadlineDate > :now AND " + AFTER_CURSOR + ORDER_BY_CURSOR)
+    List<CopurchasingSummaryResponse> findRecruitingSummaries(@Param("status") CopurchasingStatus status,
+                                                              @Param("now") LocalDateTime now,
+                                                              @Param("cursorDeadlineDate") LocalDateTime cursorDeadlineDate,
+                                                              @Param("cursorId") Long cursorId,
+                                                              Limit limit);
+
+    @Query(SELECT_SUMMARY +
+            "WHERE c.status = :status AND " + AFTER_CURSOR + ORDER_BY_CURSOR)
+    List<CopurchasingSummaryResponse> findClosedSummaries(@Param("status") CopurchasingStatus status,
+                                                          @Param("cursorDeadlineDate") LocalDateTime cursorDeadlineDate,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Limit limit);
 }
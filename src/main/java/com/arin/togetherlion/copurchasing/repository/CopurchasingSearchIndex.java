@@ -0,0 +1,208 @@
+package com.arin.togetherlion.copurchasing.repository;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchDocument;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResult;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게시물 제목과 본문의 메모리 역색인. 한국어는 nori 형태소 분석기로 나누어 조사가 붙은 단어도 찾는다.
+// 원본은 DB 이므로 애플리케이션 시작 시 다시 만들고, 이후에는 게시물 이벤트로 바뀐 게시물만 갱신한다.
+@Repository
+public class CopurchasingSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String STATUS = "status";
+    private static final String DEADLINE = "deadline";
+    // 제목에 검색어가 있는 게시물을 본문에만 있는 게시물보다 먼저 보여준다.
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public CopurchasingSearchIndex() {
+        try {
+            writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void index(CopurchasingSearchDocument copurchasing) {
+        try {
+            writer.updateDocument(idTerm(copurchasing.getId()), toDocument(copurchasing));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long copurchasingId) {
+        try {
+            writer.deleteDocuments(idTerm(copurchasingId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 색인된 게시물의 상태를 id 별로 반환한다. 색인에 없는 게시물은 결과에 포함되지 않는다.
+    public Map<Long, CopurchasingStatus> findStatuses(Collection<Long> copurchasingIds) {
+        try {
+            searcherManager.maybeRefreshBlocking();
+            final IndexSearcher searcher = searcherManager.acquire();
+            try {
+                final StoredFields storedFields = searcher.storedFields();
+                final Map<Long, CopurchasingStatus> statuses = new HashMap<>();
+                for (Long copurchasingId : copurchasingIds) {
+                    final TopDocs topDocs = searcher.search(new TermQuery(idTerm(copurchasingId)), 1);
+                    if (topDocs.scoreDocs.length > 0)
+                        statuses.put(copurchasingId, CopurchasingStatus.valueOf(
+                                storedFields.document(topDocs.scoreDocs[0].doc).get(STATUS)));
+                }
+                return statuses;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // statuses 가 비어 있으면 상태와 무관하게, 마감일 범위는 null 인 쪽을 제한하지 않는다. 점수가 높은 순으로 limit 건을 반환한다.
+    public List<CopurchasingSearchResult> search(String keyword, Collection<CopurchasingStatus> statuses,
+                                                 LocalDateTime deadlineFrom, LocalDateTime deadlineTo, int limit) {
+        final Query keywordQuery = keywordQuery(keyword);
+        if (keywordQuery == null)
+            return List.of();
+
+        final BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(keywordQuery, BooleanClause.Occur.MUST);
+        if (!statuses.isEmpty())
+            query.add(statusQuery(statuses), BooleanClause.Occur.FILTER);
+        if (deadlineFrom != null || deadlineTo != null)
+            query.add(LongPoint.newRangeQuery(DEADLINE,
+                    deadlineFrom == null ? Long.MIN_VALUE : toEpochSecond(deadlineFrom),
+                    deadlineTo == null ? Long.MAX_VALUE : toEpochSecond(deadlineTo)), BooleanClause.Occur.FILTER);
+
+        try {
+            searcherManager.maybeRefreshBlocking();
+            final IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return toResults(searcher, searcher.search(query.build(), limit));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 검색어가 불용어로만 이루어져 형태소가 남지 않으면 null 을 반환한다.
+    private Query keywordQuery(String keyword) {
+        final Query title = queryBuilder.createBooleanQuery(TITLE, keyword);
+        final Query content = queryBuilder.createBooleanQuery(CONTENT, keyword);
+        if (title == null && content == null)
+            return null;
+
+        final BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (title != null)
+            query.add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        if (content != null)
+            query.add(content, BooleanClause.Occur.SHOULD);
+        return query.build();
+    }
+
+    private Query statusQuery(Collection<CopurchasingStatus> statuses) {
+        final BooleanQuery.Builder query = new BooleanQuery.Builder();
+        statuses.forEach(status -> query.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.SHOULD));
+        return query.build();
+    }
+
+    private List<CopurchasingSearchResult> toResults(IndexSearcher searcher, TopDocs topDocs) throws IOException {
+        final StoredFields storedFields = searcher.storedFields();
+        final List<CopurchasingSearchResult> results = new ArrayList<>(topDocs.scoreDocs.length);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            final Document document = storedFields.document(scoreDoc.doc);
+            results.add(new CopurchasingSearchResult(
+                    Long.valueOf(document.get(ID)),
+                    document.get(TITLE),
+                    CopurchasingStatus.valueOf(document.get(STATUS)),
+                    LocalDateTime.ofEpochSecond(document.getField(DEADLINE).numericValue().longValue(), 0, ZoneOffset.UTC),
+                    scoreDoc.score));
+        }
+        return results;
+    }
+
+    private Document toDocument(CopurchasingSearchDocument copurchasing) {
+        final Document document = new Document();
+        final long deadline = toEpochSecond(copurchasing.getDeadlineDate());
+        document.add(new StringField(ID, String.valueOf(copurchasing.getId()), Field.Store.YES));
+        document.add(new TextField(TITLE, copurchasing.getTitle(), Field.Store.YES));
+        if (copurchasing.getContent() != null)
+            document.add(new TextField(CONTENT, copurchasing.getContent(), Field.Store.NO));
+        document.add(new StringField(STATUS, copurchasing.getStatus().name(), Field.Store.YES));
+        document.add(new LongPoint(DEADLINE, deadline));
+        document.add(new StoredField(DEADLINE, deadline));
+        return document;
+    }
+
+    private Term idTerm(Long copurchasingId) {
+        return new Term(ID, String.valueOf(copurchasingId));
+    }
+
+    // 마감일은 LocalDateTime 그대로 비교하므로 시간대 없이 초 단위로 변환한다.
+    private long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+}
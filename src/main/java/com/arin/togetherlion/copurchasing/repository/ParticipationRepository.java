@@ -1,13 +1,45 @@
 package com.arin.togetherlion.copurchasing.repository;
 
 import com.arin.togetherlion.copurchasing.domain.Participation;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipantPayment;
 import com.arin.togetherlion.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ParticipationRepository extends JpaRepository<Participation, Long> {
     Optional<Participation> findByParticipant(User participant);
+
+    boolean existsByCopurchasingIdAndParticipantId(Long copurchasingId, Long participantId);
+
+    @Query("SELECT p.participant.id FROM Participation p WHERE p.copurchasing.id = :copurchasingId AND p.participant.id IN :participantIds")
+    List<Long> findParticipantIds(@Param("copurchasingId") Long copurchasingId,
+                                  @Param("participantIds") Collection<Long> participantIds);
+
+    @Query("SELECT u.nickname FROM Participation p JOIN p.participant u WHERE p.copurchasing.id = :copurchasingId ORDER BY p.id")
+    List<String> findParticipantNicknames(@Param("copurchasingId") Long copurchasingId);
+
+    @Query("SELECT new com.arin.togetherlion.copurchasing.domain.dto.ParticipantPayment(p.participant.id, SUM(p.paymentPoint.amount)) " +
+            "FROM Participation p WHERE p.copurchasing.id = :copurchasingId GROUP BY p.participant.id")
+    List<ParticipantPayment> findPaymentsByCopurchasingId(@Param("copurchasingId") Long copurchasingId);
+
+    // 게시물별 환급 내역을 남기기 위해 게시물과 참여자 단위로 합산한다.
+    @Query("SELECT new com.arin.togetherlion.copurchasing.domain.dto.ParticipantPayment(p.copurchasing.id, p.participant.id, SUM(p.paymentPoint.amount)) " +
+            "FROM Participation p WHERE p.copurchasing.id IN :copurchasingIds GROUP BY p.copurchasing.id, p.participant.id")
+    List<ParticipantPayment> findPaymentsByCopurchasingIdIn(@Param("copurchasingIds") Collection<Long> copurchasingIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Participation p WHERE p.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Participation p WHERE p.copurchasing.id = :copurchasingId")
+    int deleteAllByCopurchasingIdInBulk(@Param("copurchasingId") Long copurchasingId);
 }
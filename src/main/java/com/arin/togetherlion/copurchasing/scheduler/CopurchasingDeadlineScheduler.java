@@ -0,0 +1,60 @@
+package com.arin.togetherlion.copurchasing.scheduler;
+
+import com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing;
+import com.arin.togetherlion.copurchasing.service.CopurchasingDeadlineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CopurchasingDeadlineScheduler {
+
+    private final CopurchasingDeadlineService copurchasingDeadlineService;
+
+    @Value("${copurchasing.deadline.batch-size:500}")
+    private int batchSize;
+
+    // 배치마다 트랜잭션을 나눠 마감이 몰리는 시점에도 한 번에 처리하는 양을 제한한다.
+    // 커서로 이어 읽어 처리하지 못한 게시물이 앞에 남아 있어도 뒤의 배치가 계속 진행된다.
+    @Scheduled(fixedDelayString = "${copurchasing.deadline.fixed-delay:60000}")
+    public void closeExpired() {
+        final LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cursorDeadlineDate = null;
+        Long cursorId = null;
+        List<ExpiredCopurchasing> expired;
+        do {
+            expired = copurchasingDeadlineService.findExpired(now, cursorDeadlineDate, cursorId, batchSize);
+            if (expired.isEmpty())
+                return;
+            close(expired.stream().map(ExpiredCopurchasing::getId).toList());
+            final ExpiredCopurchasing last = expired.get(expired.size() - 1);
+            cursorDeadlineDate = last.getDeadlineDate();
+            cursorId = last.getId();
+        } while (expired.size() == batchSize);
+    }
+
+    // 배치가 실패하면 게시물마다 트랜잭션을 나눠 다시 처리하고, 그래도 실패한 게시물은 건너뛰어 다음 실행에서 다시 시도한다.
+    private void close(List<Long> ids) {
+        try {
+            copurchasingDeadlineService.close(ids);
+        } catch (RuntimeException e) {
+            log.warn("마감 배치 처리에 실패해 게시물별로 다시 처리합니다. size={}", ids.size(), e);
+            ids.forEach(this::closeOne);
+        }
+    }
+
+    private void closeOne(Long id) {
+        try {
+            copurchasingDeadlineService.close(List.of(id));
+        } catch (RuntimeException e) {
+            log.error("게시물 마감 처리에 실패했습니다. copurchasingId={}", id, e);
+        }
+    }
+}
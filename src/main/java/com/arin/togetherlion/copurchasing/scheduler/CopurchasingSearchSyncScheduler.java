@@ -0,0 +1,26 @@
+package com.arin.togetherlion.copurchasing.scheduler;
+
+import com.arin.togetherlion.copurchasing.service.CopurchasingSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CopurchasingSearchSyncScheduler {
+
+    private final CopurchasingSearchService copurchasingSearchService;
+
+    @Value("${copurchasing.search.sync-batch-size:500}")
+    private int batchSize;
+
+    // 배치가 가득 차면 반영할 게시물이 더 있다고 보고 바로 이어서 갱신한다.
+    @Scheduled(fixedDelayString = "${copurchasing.search.sync-fixed-delay:200}")
+    public void flush() {
+        int synced;
+        do {
+            synced = copurchasingSearchService.flush(batchSize);
+        } while (synced == batchSize);
+    }
+}
@@ -0,0 +1,25 @@
+package com.arin.togetherlion.copurchasing.scheduler;
+
+import com.arin.togetherlion.copurchasing.service.ParticipationQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class ParticipationTicketEvictionScheduler {
+
+    private final ParticipationQueueService participationQueueService;
+
+    @Value("${copurchasing.participation-queue.ticket-ttl:PT10M}")
+    private Duration ticketTtl;
+
+    @Scheduled(fixedDelayString = "${copurchasing.participation-queue.eviction-fixed-delay:60000}")
+    public void evict() {
+        participationQueueService.evictCompletedBefore(LocalDateTime.now().minus(ticketTtl));
+    }
+}
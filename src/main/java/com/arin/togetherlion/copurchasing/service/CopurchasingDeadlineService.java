@@ -0,0 +1,105 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipantPayment;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingClosedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.PointsRefundedEvent;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import com.arin.togetherlion.point.service.PointService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CopurchasingDeadlineService {
+
+    private static final EnumSet<CopurchasingStatus> CLOSABLE_STATUSES = EnumSet.of(CopurchasingStatus.RECRUITING, CopurchasingStatus.FULL);
+    private static final LocalDateTime FIRST_CURSOR_DEADLINE_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long FIRST_CURSOR_ID = 0L;
+
+    private final CopurchasingRepository copurchasingRepository;
+    private final ParticipationRepository participationRepository;
+    private final PointService pointService;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 마감일이 지난 모집 중 게시물을 (마감일, id) 커서 다음부터 한 배치만큼 읽는다.
+    @Transactional(readOnly = true)
+    public List<ExpiredCopurchasing> findExpired(LocalDateTime now, LocalDateTime cursorDeadlineDate, Long cursorId, int batchSize) {
+        final LocalDateTime deadlineDate = cursorDeadlineDate == null ? FIRST_CURSOR_DEADLINE_DATE : cursorDeadlineDate;
+        final Long id = cursorId == null ? FIRST_CURSOR_ID : cursorId;
+        return copurchasingRepository.findExpired(CLOSABLE_STATUSES, now, deadlineDate, id, Limit.of(batchSize));
+    }
+
+    // 아직 모집 중인 게시물만 잠근 뒤 시작/실패로 전환하고, 이 트랜잭션이 실패로 전환한 게시물의 참여자에게만 환급한다.
+    // 목록을 읽은 뒤 삭제되거나 다른 실행에서 마감된 게시물은 잠금 조회에서 빠지므로 되살리거나 두 번 환급하지 않는다.
+    @Transactional
+    public int close(Collection<Long> ids) {
+        final List<Copurchasing> closing = copurchasingRepository.findAllByIdInAndStatusInOrderById(ids, CLOSABLE_STATUSES);
+        if (closing.isEmpty())
+            return 0;
+
+        final Map<Boolean, List<Copurchasing>> byMinNumberReached = closing.stream()
+                .collect(Collectors.partitioningBy(Copurchasing::isMinNumberReached));
+        final List<Long> startedIds = closeAs(byMinNumberReached.get(true), CopurchasingStatus.STARTED);
+        final List<Long> failedIds = closeAs(byMinNumberReached.get(false), CopurchasingStatus.FAILED);
+        if (!failedIds.isEmpty())
+            refund(failedIds);
+
+        startedIds.forEach(id -> eventPublisher.publishEvent(new CopurchasingClosedEvent(id, CopurchasingStatus.STARTED)));
+        failedIds.forEach(id -> eventPublisher.publishEvent(new CopurchasingClosedEvent(id, CopurchasingStatus.FAILED)));
+        return closing.size();
+    }
+
+    private List<Long> closeAs(List<Copurchasing> copurchasings, CopurchasingStatus status) {
+        if (copurchasings.isEmpty())
+            return List.of();
+        recordParticipants(copurchasings, status);
+        final List<Long> ids = copurchasings.stream()
+                .map(Copurchasing::getId)
+                .toList();
+        // 잠근 행이므로 모두 갱신되어야 한다.
+        if (copurchasingRepository.updateStatus(ids, CLOSABLE_STATUSES, status) != ids.size())
+            throw new OptimisticLockingFailureException("마감 처리 중 게시물 상태가 바뀌었습니다.");
+        return ids;
+    }
+
+    // 마감 시점의 게시물당 참여자 수 분포를 결과 상태별로 남긴다.
+    private void recordParticipants(List<Copurchasing> copurchasings, CopurchasingStatus status) {
+        final DistributionSummary summary = DistributionSummary.builder("copurchasing.participants")
+                .description("마감된 게시물당 참여자 수")
+                .baseUnit("participants")
+                .tag("status", status.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        copurchasings.forEach(copurchasing -> summary.record(copurchasing.getParticipantCount()));
+    }
+
+    // 여러 게시물에 참여한 사용자는 합산해 한 번에 환급하고, 환급 내역은 게시물별 이벤트로 남긴다.
+    private void refund(List<Long> failedIds) {
+        final List<ParticipantPayment> payments = participationRepository.findPaymentsByCopurchasingIdIn(failedIds);
+        final Map<Long, Integer> refunds = payments.stream()
+                .collect(Collectors.toMap(ParticipantPayment::getParticipantId, ParticipantPayment::getAmount, Integer::sum));
+        pointService.chargeAll(refunds);
+        payments.stream()
+                .collect(Collectors.groupingBy(ParticipantPayment::getCopurchasingId,
+                        Collectors.toMap(ParticipantPayment::getParticipantId, ParticipantPayment::getAmount)))
+                .forEach((copurchasingId, amounts) -> eventPublisher.publishEvent(new PointsRefundedEvent(copurchasingId, amounts)));
+    }
+}
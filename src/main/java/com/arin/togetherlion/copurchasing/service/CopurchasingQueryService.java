@@ -0,0 +1,62 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingFilter;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingDetailResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingPageResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSummaryResponse;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CopurchasingQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime FIRST_CURSOR_DEADLINE_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long FIRST_CURSOR_ID = 0L;
+
+    private final CopurchasingRepository copurchasingRepository;
+    private final ParticipationRepository participationRepository;
+
+    // 작성자는 fetch join, 참여자 닉네임은 프로젝션으로 조회해 참여자 수와 무관하게 두 번의 쿼리로 끝난다.
+    public CopurchasingDetailResponse findById(Long copurchasingId) {
+        final Copurchasing copurchasing = copurchasingRepository.findWithWriterById(copurchasingId)
+                .orElseThrow(() -> CustomException.of(ErrorCode.COPURCHASING_NOT_FOUND));
+        final List<String> participantNicknames = participationRepository.findParticipantNicknames(copurchasingId);
+        return CopurchasingDetailResponse.of(copurchasing, participantNicknames);
+    }
+
+    public CopurchasingPageResponse findAll(CopurchasingFilter filter, LocalDateTime cursorDeadlineDate, Long cursorId, int size) {
+        validatePageSize(size);
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime deadlineDate = cursorDeadlineDate == null ? FIRST_CURSOR_DEADLINE_DATE : cursorDeadlineDate;
+        final Long id = cursorId == null ? FIRST_CURSOR_ID : cursorId;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+        final Limit limit = Limit.of(size + 1);
+
+        final List<CopurchasingSummaryResponse> fetched = switch (filter) {
+            case OPEN -> copurchasingRepository.findRecruitingSummaries(CopurchasingStatus.RECRUITING, now, deadlineDate, id, limit);
+            case FULL -> copurchasingRepository.findRecruitingSummaries(CopurchasingStatus.FULL, now, deadlineDate, id, limit);
+            case STARTED -> copurchasingRepository.findClosedSummaries(CopurchasingStatus.STARTED, deadlineDate, id, limit);
+            case EXPIRED -> copurchasingRepository.findClosedSummaries(CopurchasingStatus.FAILED, deadlineDate, id, limit);
+        };
+        return CopurchasingPageResponse.of(fetched, size);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw CustomException.of(ErrorCode.INVALID_PAGE_SIZE);
+    }
+}
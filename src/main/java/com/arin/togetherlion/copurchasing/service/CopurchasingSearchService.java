@@ -0,0 +1,167 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingFilter;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchDocument;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResult;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingEvent;
+import com.arin.togetherlion.copurchasing.domain.event.PointsRefundedEvent;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시물 키워드 검색. 검색은 색인만 읽고 DB 를 조회하지 않는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CopurchasingSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    // 페이지는 앞에서부터 다시 모아 자르므로 깊은 페이지 조회를 제한한다.
+    private static final int MAX_SEARCH_WINDOW = 1000;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final CopurchasingRepository copurchasingRepository;
+    private final CopurchasingSearchIndex copurchasingSearchIndex;
+    // 커밋 후 색인에 반영할 게시물 id. 같은 게시물의 여러 이벤트는 한 번의 갱신으로 합쳐진다.
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    // 색인 갱신과 재구성을 한 번에 하나씩 실행해 같은 게시물의 갱신 순서가 뒤바뀌지 않게 한다.
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    // filter 가 null 이면 삭제되지 않은 모든 게시물에서 찾는다. 모집 중인 상태는 피드와 같이 마감 전인 게시물로 한정한다.
+    public CopurchasingSearchResponse search(String keyword, CopurchasingFilter filter,
+                                             LocalDateTime deadlineFrom, LocalDateTime deadlineTo, int page, int size) {
+        validateKeyword(keyword);
+        validatePage(page, size);
+
+        LocalDateTime from = deadlineFrom;
+        if (filter == CopurchasingFilter.OPEN || filter == CopurchasingFilter.FULL) {
+            final LocalDateTime now = LocalDateTime.now();
+            from = from == null || from.isBefore(now) ? now : from;
+        }
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+        final List<CopurchasingSearchResult> fetched = copurchasingSearchIndex.search(
+                keyword, toStatuses(filter), from, deadlineTo, (page + 1) * size + 1);
+        return CopurchasingSearchResponse.of(fetched, page, size);
+    }
+
+    private Set<CopurchasingStatus> toStatuses(CopurchasingFilter filter) {
+        if (filter == null)
+            return Set.of();
+        return switch (filter) {
+            case OPEN -> Set.of(CopurchasingStatus.RECRUITING);
+            case FULL -> Set.of(CopurchasingStatus.FULL);
+            case STARTED -> Set.of(CopurchasingStatus.STARTED);
+            case EXPIRED -> Set.of(CopurchasingStatus.FAILED);
+        };
+    }
+
+    private void validateKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank() || keyword.length() > MAX_KEYWORD_LENGTH)
+            throw CustomException.of(ErrorCode.INVALID_SEARCH_KEYWORD);
+    }
+
+    private void validatePage(int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw CustomException.of(ErrorCode.INVALID_PAGE_SIZE);
+        if (page < 0 || (page + 1) * size > MAX_SEARCH_WINDOW)
+            throw CustomException.of(ErrorCode.INVALID_PAGE_NUMBER);
+    }
+
+    // 요청 스레드에서는 바뀐 게시물 id 만 기록하고, 색인은 flush 가 한 스레드에서 모아 갱신한다.
+    // 환급은 색인 필드를 바꾸지 않고 같은 트랜잭션의 다른 이벤트로 이미 기록되므로 건너뛴다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void sync(CopurchasingEvent event) {
+        if (event instanceof PointsRefundedEvent)
+            return;
+        pendingIds.add(event.getCopurchasingId());
+    }
+
+    // 기록된 id 를 먼저 꺼낸 뒤 커밋된 게시물을 다시 읽으므로, 읽은 뒤에 커밋된 변경은 id 가 다시 기록되어 다음 실행에서 반영된다.
+    // 삭제된 게시물은 조회되지 않으므로 색인에서도 지운다. 생성 후에는 상태만 바뀌므로 색인된 상태와 같으면 다시 쓰지 않는다.
+    // 색인 갱신이 실패하면 꺼낸 id 를 다시 기록해 다음 실행에서 재시도한다. 처리한 id 수를 반환한다.
+    public int flush(int batchSize) {
+        indexLock.lock();
+        try {
+            final List<Long> ids = drainPendingIds(batchSize);
+            if (ids.isEmpty())
+                return 0;
+            try {
+                final Map<Long, CopurchasingSearchDocument> documents = copurchasingRepository.findSearchDocumentsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(CopurchasingSearchDocument::getId, Function.identity()));
+                final Map<Long, CopurchasingStatus> indexedStatuses = copurchasingSearchIndex.findStatuses(ids);
+                for (Long id : ids) {
+                    final CopurchasingSearchDocument document = documents.get(id);
+                    if (document == null) {
+                        if (indexedStatuses.containsKey(id))
+                            copurchasingSearchIndex.delete(id);
+                    } else if (document.getStatus() != indexedStatuses.get(id)) {
+                        copurchasingSearchIndex.index(document);
+                    }
+                }
+            } catch (RuntimeException e) {
+                pendingIds.addAll(ids);
+                log.warn("검색 색인 갱신 실패 count={}", ids.size(), e);
+            }
+            return ids.size();
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private List<Long> drainPendingIds(int batchSize) {
+        final List<Long> ids = new ArrayList<>();
+        final Iterator<Long> iterator = pendingIds.iterator();
+        while (ids.size() < batchSize && iterator.hasNext()) {
+            ids.add(iterator.next());
+            iterator.remove();
+        }
+        return ids;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        indexLock.lock();
+        try {
+            rebuildIndex();
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void rebuildIndex() {
+        copurchasingSearchIndex.deleteAll();
+        long lastId = 0L;
+        int indexed = 0;
+        List<CopurchasingSearchDocument> batch;
+        do {
+            batch = copurchasingRepository.findSearchDocumentsByIdGreaterThan(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            batch.forEach(copurchasingSearchIndex::index);
+            indexed += batch.size();
+            if (!batch.isEmpty())
+                lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        log.info("검색 색인 재구성 완료 count={}", indexed);
+    }
+}
@@ -1,22 +1,48 @@
 package com.arin.togetherlion.copurchasing.service;
 
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.common.Monitored;
+import com.arin.togetherlion.common.RetryOnConflict;
 import com.arin.togetherlion.copurchasing.domain.Copurchasing;
 import com.arin.togetherlion.copurchasing.domain.Participation;
 import com.arin.togetherlion.copurchasing.domain.ProductTotalCost;
 import com.arin.togetherlion.copurchasing.domain.ShippingCost;
 import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipantPayment;
 import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
 import com.arin.togetherlion.copurchasing.domain.dto.ParticipationDeleteRequest;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingCreatedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingDeletedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.ParticipationAddedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.ParticipationRemovedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.PointsRefundedEvent;
 import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
 import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import com.arin.togetherlion.point.service.PointService;
 import com.arin.togetherlion.user.UserService;
 import com.arin.togetherlion.user.domain.User;
 import com.arin.togetherlion.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
+@Monitored("copurchasing.service")
 @RequiredArgsConstructor
 public class CopurchasingService {
 
@@ -24,13 +50,67 @@ public class CopurchasingService {
     private final UserRepository userRepository;
     private final ParticipationRepository participationRepository;
     private final UserService userService;
+    private final PointService pointService;
+    private final CopurchasingSnapshotService copurchasingSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @RetryOnConflict
     @Transactional
     public Long create(CopurchasingCreateRequest request) {
         final User writer = userRepository.findById(request.getWriterId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+                .orElseThrow(() -> CustomException.of(ErrorCode.USER_NOT_FOUND));
+
+        final Copurchasing copurchasing = toCopurchasing(request, writer);
+        final int paymentCost = addWriterParticipation(copurchasing, writer, request.getPurchaseNumber());
+        final Long copurchasingId = copurchasingRepository.save(copurchasing).getId();
+        pointService.use(writer.getId(), paymentCost);
+        eventPublisher.publishEvent(createdEvent(copurchasing, request.getPurchaseNumber(), paymentCost));
+
+        return copurchasingId;
+    }
+
+    @RetryOnConflict
+    @Transactional
+    public List<Long> createAll(List<CopurchasingCreateRequest> requests) {
+        final Map<Long, User> writers = userRepository.findAllById(requests.stream()
+                        .map(CopurchasingCreateRequest::getWriterId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        final List<Copurchasing> copurchasings = new ArrayList<>();
+        final List<Integer> writerPaymentCosts = new ArrayList<>();
+        final Map<Long, Integer> paymentCosts = new LinkedHashMap<>();
+        for (CopurchasingCreateRequest request : requests) {
+            final User writer = writers.get(request.getWriterId());
+            if (writer == null)
+                throw CustomException.of(ErrorCode.USER_NOT_FOUND);
 
-        final Copurchasing copurchasing = Copurchasing.builder()
+            final Copurchasing copurchasing = toCopurchasing(request, writer);
+            final int paymentCost = addWriterParticipation(copurchasing, writer, request.getPurchaseNumber());
+            copurchasings.add(copurchasing);
+            writerPaymentCosts.add(paymentCost);
+            paymentCosts.merge(writer.getId(), paymentCost, Integer::sum);
+        }
+
+        final List<Long> copurchasingIds = copurchasingRepository.saveAll(copurchasings).stream()
+                .map(Copurchasing::getId)
+                .toList();
+        paymentCosts.forEach(pointService::use);
+        for (int i = 0; i < copurchasings.size(); i++)
+            eventPublisher.publishEvent(createdEvent(copurchasings.get(i), requests.get(i).getPurchaseNumber(), writerPaymentCosts.get(i)));
+
+        return copurchasingIds;
+    }
+
+    private CopurchasingCreatedEvent createdEvent(Copurchasing copurchasing, int purchaseNumber, int paymentCost) {
+        return new CopurchasingCreatedEvent(copurchasing.getId(), copurchasing.getWriter().getId(),
+                copurchasing.getTitle(), copurchasing.getDeadlineDate(), purchaseNumber, paymentCost);
+    }
+
+    private Copurchasing toCopurchasing(CopurchasingCreateRequest request, User writer) {
+        return Copurchasing.builder()
                 .title(request.getTitle())
                 .content(request.getContent())
                 .productTotalCost(new ProductTotalCost(request.getProductTotalCost()))
@@ -45,76 +125,142 @@ public class CopurchasingService {
                 .writer(writer)
                 .purchaseNumber(request.getPurchaseNumber())
                 .build();
+    }
 
-        final Long copurchasingId = copurchasingRepository.save(copurchasing).getId();
-
-        System.out.println("왜 실행이 안돼???");
-        final int paymentCost = copurchasing.getPaymentCost(request.getPurchaseNumber());
-        writer.pay(paymentCost);
+    // 작성자 참여는 공동구매 저장 시 cascade 로 함께 insert 된다.
+    private int addWriterParticipation(Copurchasing copurchasing, User writer, int purchaseNumber) {
+        final int paymentCost = copurchasing.getPaymentCost(purchaseNumber);
         final Participation participation = Participation.builder()
-                .purchaseNumber(request.getPurchaseNumber())
+                .purchaseNumber(purchaseNumber)
                 .participant(writer)
                 .payment(paymentCost)
                 .build();
         copurchasing.addParticipation(participation);
-        final Long participationId = participationRepository.save(participation).getId();
-
-        System.out.println("왜 실행이 안돼?");
-        System.out.println("participationId = " + participationId);
-
-        return copurchasingId;
+        return paymentCost;
     }
 
+    @RetryOnConflict
     @Transactional
     public void delete(Long userId, Long copurchasingId) {
         final Copurchasing copurchasing = copurchasingRepository.findById(copurchasingId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공동구매 게시물입니다."));
+                .orElseThrow(() -> CustomException.of(ErrorCode.COPURCHASING_NOT_FOUND));
 
         final User deleter = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+                .orElseThrow(() -> CustomException.of(ErrorCode.USER_NOT_FOUND));
 
-        final User writer = copurchasing.getWriter();
         copurchasing.validateDelete(deleter);
-        copurchasing.charge();
+        final boolean refunded = copurchasing.isFailed();
+
+        // 참여·취소와 같이 게시물 행을 먼저 잠가 교착을 막는다. 검증과 환급 대상은 잠금 전에 읽은 값이므로
+        // 그 사이 마감·참여·취소·삭제가 커밋되어 버전이 바뀌었다면 @RetryOnConflict 가 새 트랜잭션에서 다시 읽는다.
+        if (copurchasingRepository.softDeleteById(copurchasingId, copurchasing.getVersion()) == 0)
+            throw new OptimisticLockingFailureException("삭제 중 공동구매 게시물이 변경되었습니다.");
 
-        copurchasingRepository.delete(copurchasing);
+        // 참여자별 결제 포인트를 한 번에 환급하고 참여를 벌크 삭제한다.
+        // 모집 실패로 마감된 게시물은 마감 시점에 이미 환급되었다.
+        if (!refunded) {
+            final Map<Long, Integer> refunds = participationRepository.findPaymentsByCopurchasingId(copurchasingId).stream()
+                    .collect(Collectors.toMap(ParticipantPayment::getParticipantId, ParticipantPayment::getAmount));
+            pointService.chargeAll(refunds);
+            eventPublisher.publishEvent(new PointsRefundedEvent(copurchasingId, refunds));
+        }
+        participationRepository.deleteAllByCopurchasingIdInBulk(copurchasingId);
+        eventPublisher.publishEvent(new CopurchasingDeletedEvent(copurchasingId));
     }
 
+    @RetryOnConflict
     @Transactional
     public Long participationCreate(ParticipationCreateRequest request) {
-        final Copurchasing copurchasing = copurchasingRepository.findById(request.getCopurchasingId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공동구매 게시물입니다."));
+        final Long copurchasingId = request.getCopurchasingId();
+        final int purchaseNumber = request.getPurchaseNumber();
 
-        final User participant = userRepository.findById(request.getParticipantId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        if (!userRepository.existsById(request.getParticipantId()))
+            throw CustomException.of(ErrorCode.USER_NOT_FOUND);
+        validateNotParticipant(copurchasingId, request.getParticipantId());
+        // 예약 전에 읽어 이 트랜잭션의 변경이 캐시에 담기지 않게 한다. 결제 포인트 계산에는 바뀌지 않는 가격 정보만 쓴다.
+        final CopurchasingSnapshot snapshot = copurchasingSnapshotService.find(copurchasingId);
 
-        final int paymentCost = copurchasing.getPaymentCost(request.getPurchaseNumber());
-        participant.pay(paymentCost);
+        final User participant = userRepository.getReferenceById(request.getParticipantId());
+        final int paymentCost = snapshot.getRecruitingPaymentCost(purchaseNumber);
         final Participation participation = Participation.builder()
-                .purchaseNumber(request.getPurchaseNumber())
+                .purchaseNumber(purchaseNumber)
                 .participant(participant)
                 .payment(paymentCost)
                 .build();
-        copurchasing.addParticipation(participation);
-        return participationRepository.save(participation).getId();
+
+        // 조건부 UPDATE 한 번으로 수량을 예약해 동시 참여 시에도 최대 상품 개수를 넘지 않는다.
+        // 예약한 게시물 행의 잠금은 커밋까지 유지되므로 예약 이후에는 참여 insert, 포인트 차감과 이벤트 기록만 한다.
+        reserve(copurchasingId, purchaseNumber);
+
+        participation.assignReservedCopurchasing(copurchasingRepository.getReferenceById(copurchasingId));
+        final Long participationId = saveParticipation(participation).getId();
+        pointService.use(participant.getId(), paymentCost);
+        eventPublisher.publishEvent(new ParticipationAddedEvent(copurchasingId, participant.getId(), purchaseNumber,
+                paymentCost, snapshot.getTitle(), snapshot.getDeadlineDate()));
+        return participationId;
+    }
+
+    private void validateNotParticipant(Long copurchasingId, Long participantId) {
+        if (participationRepository.existsByCopurchasingIdAndParticipantId(copurchasingId, participantId))
+            throw CustomException.of(ErrorCode.CANT_JOIN);
+    }
+
+    // 예약에 실패하면 게시물을 읽어 실패 사유를 도메인 검증으로 구분한다.
+    // 읽은 상태로는 참여할 수 있다면 그 사이 다른 요청이 남은 수량이나 상태를 바꾼 것이다.
+    private void reserve(Long copurchasingId, int purchaseNumber) {
+        if (copurchasingRepository.reserve(copurchasingId, purchaseNumber, 1, LocalDateTime.now()) == 1)
+            return;
+        final Copurchasing copurchasing = copurchasingRepository.findById(copurchasingId)
+                .orElseThrow(() -> CustomException.of(ErrorCode.COPURCHASING_NOT_FOUND));
+        copurchasing.validateReservation(purchaseNumber);
+        throw CustomException.of(ErrorCode.CONCURRENT_MODIFICATION);
+    }
+
+    // 동시에 들어온 중복 참여는 (copurchasing_id, user_id) 유니크 제약으로 걸러진다.
+    // 게시물이나 사용자가 동시에 삭제되어 생긴 FK 위반 등 다른 제약 위반은 그대로 던진다.
+    private Participation saveParticipation(Participation participation) {
+        try {
+            return participationRepository.saveAndFlush(participation);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateParticipation(e))
+                throw CustomException.of(ErrorCode.CANT_JOIN);
+            throw e;
+        }
+    }
+
+    private boolean isDuplicateParticipation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Participation.UNIQUE_PARTICIPANT_CONSTRAINT);
     }
 
+    @RetryOnConflict
     @Transactional
     public void participationDelete(ParticipationDeleteRequest request) {
         final Participation participation = participationRepository.findById(request.getParticipationId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공동구매 참여입니다."));
+                .orElseThrow(() -> CustomException.of(ErrorCode.PARTICIPATION_NOT_FOUND));
 
-        final Copurchasing copurchasing = copurchasingRepository.findByParticipation(participation)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공동구매에 대한 참여입니다."));
+        if (participation.getCopurchasing() == null)
+            throw CustomException.of(ErrorCode.PARTICIPATION_WITHOUT_COPURCHASING);
+        // 지연 로딩 프록시는 동시에 삭제된 게시물을 초기화하지 못해 예외가 나므로 직접 조회한다.
+        final Copurchasing copurchasing = copurchasingRepository.findById(participation.getCopurchasing().getId())
+                .orElseThrow(() -> CustomException.of(ErrorCode.COPURCHASING_NOT_FOUND));
 
         final User deleter = userRepository.findById(request.getDeleterId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+                .orElseThrow(() -> CustomException.of(ErrorCode.USER_NOT_FOUND));
 
         participation.validateDeleteParticipation(copurchasing, deleter);
 
-        participation.charge();
-        copurchasing.getParticipations().getParticipations().remove(participation);
+        final int paymentAmount = participation.getPaymentPoint().getAmount();
+        // 참여·삭제와 같이 게시물 행을 먼저 잠근다. 검증한 뒤 게시물이 마감·삭제되었다면 수량을 돌려놓지 않고 다시 읽어 검증한다.
+        // 동시에 취소된 참여라면 삭제 건수가 0 이 되어 전체가 롤백된다.
+        if (copurchasingRepository.release(copurchasing.getId(), participation.getPurchaseNumber()) == 0)
+            throw new OptimisticLockingFailureException("참여 취소 중 공동구매 게시물 상태가 변경되었습니다.");
+        if (participationRepository.deleteByIdInBulk(participation.getId()) == 0)
+            throw CustomException.of(ErrorCode.PARTICIPATION_NOT_FOUND);
 
-        participationRepository.delete(participation);
+        pointService.charge(deleter.getId(), paymentAmount);
+        eventPublisher.publishEvent(new ParticipationRemovedEvent(copurchasing.getId(), deleter.getId(), participation.getPurchaseNumber()));
+        eventPublisher.publishEvent(new PointsRefundedEvent(copurchasing.getId(), Map.of(deleter.getId(), paymentAmount)));
     }
 }
@@ -0,0 +1,36 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingEvent;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 인기 게시물 요약을 캐시해 읽기 요청이 DB 까지 가지 않게 한다.
+// 크기와 만료 시간은 spring.cache.caffeine.spec 으로 제한하고, 모집 현황이 바뀌면 커밋 후 무효화한다.
+@Service
+@RequiredArgsConstructor
+public class CopurchasingSnapshotService {
+
+    public static final String CACHE_NAME = "copurchasingSnapshots";
+
+    private final CopurchasingRepository copurchasingRepository;
+
+    // 존재하지 않는 게시물은 예외로 끝나 캐시에 담기지 않는다.
+    @Cacheable(cacheNames = CACHE_NAME, key = "#copurchasingId")
+    public CopurchasingSnapshot find(Long copurchasingId) {
+        return copurchasingRepository.findSnapshotById(copurchasingId)
+                .orElseThrow(() -> CustomException.of(ErrorCode.COPURCHASING_NOT_FOUND));
+    }
+
+    // 커밋 직전 다른 요청이 이전 값을 다시 담을 수 있어, 그런 경우는 만료 시간이 지나면 갱신된다.
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#event.copurchasingId")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(CopurchasingEvent event) {
+    }
+}
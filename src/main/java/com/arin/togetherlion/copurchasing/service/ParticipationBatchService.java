@@ -0,0 +1,119 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.common.RetryOnConflict;
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.Participation;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationOutcome;
+import com.arin.togetherlion.copurchasing.domain.event.ParticipationAddedEvent;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import com.arin.togetherlion.point.service.PointService;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 같은 게시물에 대한 참여 요청 묶음을 한 트랜잭션에서 처리한다.
+// 게시물 조회, 중복 참여 확인, 수량 예약, 포인트 차감이 요청 수와 무관하게 한 번씩만 실행된다.
+@Service
+@RequiredArgsConstructor
+public class ParticipationBatchService {
+
+    private final CopurchasingRepository copurchasingRepository;
+    private final UserRepository userRepository;
+    private final ParticipationRepository participationRepository;
+    private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 요청 순서대로 결과를 반환한다. 예약이나 저장이 동시 요청과 충돌하면 배치 전체가 롤백되며 예외가 전파된다.
+    @RetryOnConflict
+    @Transactional
+    public List<ParticipationOutcome> participateAll(Long copurchasingId, List<ParticipationCreateRequest> requests) {
+        final Copurchasing copurchasing = copurchasingRepository.findById(copurchasingId).orElse(null);
+        if (copurchasing == null)
+            return requests.stream()
+                    .map(request -> ParticipationOutcome.failure(CustomException.of(ErrorCode.COPURCHASING_NOT_FOUND)))
+                    .toList();
+
+        final Set<Long> participantIds = requests.stream()
+                .map(ParticipationCreateRequest::getParticipantId)
+                .collect(Collectors.toSet());
+        final Map<Long, Integer> balances = userRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user.getPoint().getAmount()));
+        final Set<Long> joinedIds = new HashSet<>(participationRepository.findParticipantIds(copurchasingId, participantIds));
+
+        final List<ParticipationOutcome> outcomes = new ArrayList<>(requests.size());
+        final List<Participation> participations = new ArrayList<>();
+        final List<Integer> acceptedIndexes = new ArrayList<>();
+        int reservedNumber = 0;
+        for (ParticipationCreateRequest request : requests) {
+            try {
+                final Participation participation = accept(copurchasing, request, balances, joinedIds, reservedNumber);
+                reservedNumber += participation.getPurchaseNumber();
+                acceptedIndexes.add(outcomes.size());
+                participations.add(participation);
+                outcomes.add(null);
+            } catch (RuntimeException e) {
+                outcomes.add(ParticipationOutcome.failure(e));
+            }
+        }
+        if (participations.isEmpty())
+            return outcomes;
+
+        if (copurchasingRepository.reserve(copurchasingId, reservedNumber, participations.size(), LocalDateTime.now()) == 0)
+            throw CustomException.of(ErrorCode.CONCURRENT_MODIFICATION);
+
+        final Copurchasing reserved = copurchasingRepository.getReferenceById(copurchasingId);
+        participations.forEach(participation -> participation.assignReservedCopurchasing(reserved));
+        participationRepository.saveAllAndFlush(participations);
+
+        // 잔액은 읽은 값으로 판단했으므로, 그사이 다른 요청이 잔액을 줄였다면 배치를 롤백하고 새 트랜잭션에서 다시 판단한다.
+        final Map<Long, Integer> paymentCosts = participations.stream()
+                .collect(Collectors.toMap(participation -> participation.getParticipant().getId(),
+                        participation -> participation.getPaymentPoint().getAmount()));
+        if (!pointService.tryUseAll(paymentCosts))
+            throw new OptimisticLockingFailureException("참여 처리 중 포인트 잔액이 변경되었습니다.");
+
+        for (int i = 0; i < participations.size(); i++)
+            outcomes.set(acceptedIndexes.get(i), ParticipationOutcome.success(participations.get(i).getId()));
+        participations.forEach(participation -> eventPublisher.publishEvent(new ParticipationAddedEvent(
+                copurchasingId, participation.getParticipant().getId(), participation.getPurchaseNumber(),
+                participation.getPaymentPoint().getAmount(), copurchasing.getTitle(), copurchasing.getDeadlineDate())));
+        return outcomes;
+    }
+
+    private Participation accept(Copurchasing copurchasing, ParticipationCreateRequest request,
+                                 Map<Long, Integer> balances, Set<Long> joinedIds, int reservedNumber) {
+        final Long participantId = request.getParticipantId();
+        if (!balances.containsKey(participantId))
+            throw CustomException.of(ErrorCode.USER_NOT_FOUND);
+        if (joinedIds.contains(participantId))
+            throw CustomException.of(ErrorCode.CANT_JOIN);
+
+        copurchasing.validateReservation(reservedNumber, request.getPurchaseNumber());
+        final int paymentCost = copurchasing.getPaymentCost(request.getPurchaseNumber());
+        if (balances.get(participantId) < paymentCost)
+            throw CustomException.of(ErrorCode.INSUFFICIENT_POINT);
+
+        joinedIds.add(participantId);
+        return Participation.builder()
+                .purchaseNumber(request.getPurchaseNumber())
+                .participant(userRepository.getReferenceById(participantId))
+                .payment(paymentCost)
+                .build();
+    }
+}
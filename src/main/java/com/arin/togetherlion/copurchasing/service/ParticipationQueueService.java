@@ -0,0 +1,169 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.ParticipationTicket;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationOutcome;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 게시물별 대기열에 참여 요청을 쌓고, 게시물마다 한 번에 하나의 소비자만 묶음 단위로 처리한다.
+// 같은 게시물에 대한 참여가 서로 경합하지 않고 한 트랜잭션에 모아 반영된다.
+@Slf4j
+@Service
+public class ParticipationQueueService {
+
+    private final CopurchasingService copurchasingService;
+    private final ParticipationBatchService participationBatchService;
+    private final ExecutorService consumers;
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerMillis;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, ParticipationTicket> tickets = new ConcurrentHashMap<>();
+
+    public ParticipationQueueService(CopurchasingService copurchasingService,
+                                     ParticipationBatchService participationBatchService,
+                                     @Value("${copurchasing.participation-queue.consumer-threads:4}") int consumerThreads,
+                                     @Value("${copurchasing.participation-queue.capacity:1000}") int capacity,
+                                     @Value("${copurchasing.participation-queue.batch-size:50}") int batchSize,
+                                     @Value("${copurchasing.participation-queue.linger-millis:5}") long lingerMillis) {
+        this.copurchasingService = copurchasingService;
+        this.participationBatchService = participationBatchService;
+        this.consumers = Executors.newFixedThreadPool(consumerThreads);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+    }
+
+    // 요청을 compute 안에서 대기열에 넣어, 유휴 대기열 제거와 겹쳐 제거된 대기열에 요청이 남지 않게 한다.
+    // 그렇지 않으면 새로 만들어진 대기열과 함께 한 게시물에 두 소비자가 생긴다.
+    public ParticipationTicket enqueue(ParticipationCreateRequest request) {
+        final ParticipationTicket ticket = new ParticipationTicket(request);
+        final Lane lane = lanes.compute(request.getCopurchasingId(), (copurchasingId, current) -> {
+            final Lane target = current == null ? new Lane(copurchasingId) : current;
+            if (target.size.incrementAndGet() > capacity) {
+                target.size.decrementAndGet();
+                throw CustomException.of(ErrorCode.QUEUE_FULL);
+            }
+            target.tickets.add(ticket);
+            return target;
+        });
+        tickets.put(ticket.getId(), ticket);
+        schedule(lane);
+        return ticket;
+    }
+
+    public ParticipationTicket findTicket(String ticketId) {
+        final ParticipationTicket ticket = tickets.get(ticketId);
+        if (ticket == null)
+            throw CustomException.of(ErrorCode.TICKET_NOT_FOUND);
+        return ticket;
+    }
+
+    public int evictCompletedBefore(LocalDateTime time) {
+        final int before = tickets.size();
+        tickets.values().removeIf(ticket -> ticket.isCompletedBefore(time));
+        lanes.keySet().forEach(copurchasingId -> lanes.computeIfPresent(copurchasingId, (id, lane) -> lane.isIdle() ? null : lane));
+        return before - tickets.size();
+    }
+
+    private void schedule(Lane lane) {
+        if (lane.draining.compareAndSet(false, true))
+            consumers.execute(() -> drain(lane));
+    }
+
+    private void drain(Lane lane) {
+        try {
+            List<ParticipationTicket> batch;
+            while (!(batch = lane.poll(batchSize, lingerMillis)).isEmpty())
+                apply(lane.copurchasingId, batch);
+        } finally {
+            lane.draining.set(false);
+        }
+        // 소비자 종료 직전에 들어온 요청이 남지 않도록 다시 확인한다.
+        if (!lane.tickets.isEmpty())
+            schedule(lane);
+    }
+
+    private void apply(Long copurchasingId, List<ParticipationTicket> batch) {
+        final List<ParticipationOutcome> outcomes;
+        try {
+            outcomes = participationBatchService.participateAll(copurchasingId,
+                    batch.stream().map(ParticipationTicket::getRequest).toList());
+        } catch (RuntimeException e) {
+            // 배치 전체가 롤백된 경우 요청별로 다시 처리해 실패를 해당 요청으로 한정한다.
+            batch.forEach(this::applyEach);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++)
+            batch.get(i).complete(outcomes.get(i));
+    }
+
+    private void applyEach(ParticipationTicket ticket) {
+        try {
+            ticket.complete(ParticipationOutcome.success(copurchasingService.participationCreate(ticket.getRequest())));
+        } catch (RuntimeException e) {
+            if (!(e instanceof CustomException))
+                log.error("대기열 참여 요청 처리에 실패했습니다. copurchasingId={}", ticket.getRequest().getCopurchasingId(), e);
+            ticket.complete(ParticipationOutcome.failure(e));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        consumers.shutdown();
+    }
+
+    private static class Lane {
+        private final Long copurchasingId;
+        private final Queue<ParticipationTicket> tickets = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Lane(Long copurchasingId) {
+            this.copurchasingId = copurchasingId;
+        }
+
+        // 묶음이 덜 찼으면 잠시 기다려 뒤따라 들어오는 요청을 같은 트랜잭션에 모은다.
+        private List<ParticipationTicket> poll(int max, long lingerMillis) {
+            if (lingerMillis > 0 && !tickets.isEmpty() && size.get() < max)
+                linger(lingerMillis);
+            final List<ParticipationTicket> batch = new ArrayList<>(max);
+            ParticipationTicket ticket;
+            while (batch.size() < max && (ticket = tickets.poll()) != null) {
+                batch.add(ticket);
+                size.decrementAndGet();
+            }
+            return batch;
+        }
+
+        private void linger(long lingerMillis) {
+            try {
+                Thread.sleep(lingerMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean isIdle() {
+            return !draining.get() && tickets.isEmpty();
+        }
+    }
+}
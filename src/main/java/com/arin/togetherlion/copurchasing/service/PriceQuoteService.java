@@ -0,0 +1,39 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
+import com.arin.togetherlion.copurchasing.domain.dto.PriceQuoteResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+// 참여 전 가격 확인 요청은 참여 요청보다 훨씬 많아, 캐시된 요약과 미리 계산된 1인당 금액만으로 응답한다.
+// 캐시 무효화 전까지 모집 현황이 늦게 반영될 수 있으며, 실제 결제 금액은 참여 시점에 다시 확정된다.
+@Service
+@RequiredArgsConstructor
+public class PriceQuoteService {
+
+    private final CopurchasingSnapshotService copurchasingSnapshotService;
+
+    public PriceQuoteResponse quote(Long copurchasingId, int purchaseNumber) {
+        if (purchaseNumber < 1)
+            throw CustomException.of(ErrorCode.INVALID_PURCHASE_NUMBER);
+        final CopurchasingSnapshot snapshot = copurchasingSnapshotService.find(copurchasingId);
+        validateRecruiting(snapshot, purchaseNumber);
+        return PriceQuoteResponse.of(snapshot, purchaseNumber);
+    }
+
+    private void validateRecruiting(CopurchasingSnapshot snapshot, int purchaseNumber) {
+        if (snapshot.getStatus() == CopurchasingStatus.DELETED)
+            throw CustomException.of(ErrorCode.COPURCHASING_NOT_FOUND);
+        if (snapshot.getStatus() == CopurchasingStatus.FULL)
+            throw CustomException.of(ErrorCode.RECRUITMENT_FULL);
+        if (snapshot.getStatus() != CopurchasingStatus.RECRUITING || snapshot.getDeadlineDate().isBefore(LocalDateTime.now()))
+            throw CustomException.of(ErrorCode.RECRUITMENT_EXPIRED);
+        if (purchaseNumber > snapshot.getRemainingProductNumber())
+            throw CustomException.of(ErrorCode.EXCEEDS_REMAINING_NUMBER);
+    }
+}
@@ -0,0 +1,69 @@
+package com.arin.togetherlion.outbox.domain;
+
+import com.arin.togetherlion.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 릴레이는 대기 이벤트를 기록 순으로 읽고, 같은 게시물의 대기 이벤트 존재 여부를 게시물 인덱스로 확인한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_published_at", columnList = "published_at, created_date, id"),
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, published_at")
+})
+public class OutboxEvent extends BaseTimeEntity {
+
+    // 다른 엔티티와 같이 번호 구간을 미리 받아 두므로 서버가 여러 대면 번호 순서가 발생 순서와 다를 수 있다.
+    // 같은 트랜잭션에서 기록한 이벤트끼리는 번호 순서가 기록 순서다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 이벤트를 기록할 때 게시물 행 잠금을 쥔 채 읽은 게시물 버전. 상태를 바꿀 때마다 오르므로 게시물별 전달 순서를 정한다.
+    // 서버 시각인 기록 시각은 서버 사이에 어긋날 수 있어 순서에 쓰지 않는다.
+    @Column(name = "aggregate_version", nullable = false)
+    private Long aggregateVersion;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    // 길이를 주지 않으면 MySQL 에서 255 바이트 tinytext 가 되므로 text 로 맞춘다.
+    @Lob
+    @Column(nullable = false, length = 65535)
+    private String payload;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 재시도 한도를 넘겨 릴레이가 더 이상 보내지 않는 시각. 같은 게시물의 이후 이벤트도 함께 멈춘다.
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @Builder
+    public OutboxEvent(String aggregateType, Long aggregateId, Long aggregateVersion, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.aggregateVersion = aggregateVersion;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,29 @@
+package com.arin.togetherlion.outbox.domain.dto;
+
+import com.arin.togetherlion.outbox.domain.OutboxEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 싱크로 전달되는 메시지. 같은 메시지가 두 번 이상 전달될 수 있으므로 소비자는 id 로 중복을 걸러야 한다.
+// 같은 게시물의 메시지는 (aggregateVersion, id) 순으로 전달된다.
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMessage {
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+    private Long aggregateVersion;
+    private String eventType;
+    private String payload;
+    private LocalDateTime occurredAt;
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(), event.getAggregateVersion(),
+                event.getEventType(), event.getPayload(), event.getCreatedDate());
+    }
+}
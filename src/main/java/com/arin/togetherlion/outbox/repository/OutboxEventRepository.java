@@ -0,0 +1,53 @@
+package com.arin.togetherlion.outbox.repository;
+
+import com.arin.togetherlion.outbox.domain.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 오래 기다린 이벤트부터 읽되, 같은 게시물의 순서는 (aggregateVersion, id) 로 정한다.
+    // 서버 시각이 어긋나 순서상 앞선 이벤트가 더 늦게 기록된 것처럼 보이면, 배치에서 잘리지 않도록 앞선 이벤트가 전달될 때까지 뒤의 이벤트를 읽지 않는다.
+    // 전달에 실패한 이벤트가 남은 게시물은 그 이벤트만 읽어, 보류된 이후 이벤트가 배치를 채워 다른 게시물을 막지 않게 한다.
+    // 한 게시물의 대기 이벤트 중 시도한 적이 있는 것은 가장 앞선 이벤트뿐이다.
+    @Query("SELECT o FROM OutboxEvent o WHERE o.publishedAt IS NULL AND o.parkedAt IS NULL " +
+            "AND NOT EXISTS (SELECT f.id FROM OutboxEvent f WHERE f.aggregateType = o.aggregateType " +
+            "AND f.aggregateId = o.aggregateId AND f.publishedAt IS NULL AND f.attempts > 0 AND f.id <> o.id) " +
+            "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.aggregateType = o.aggregateType " +
+            "AND p.aggregateId = o.aggregateId AND p.publishedAt IS NULL " +
+            "AND (p.aggregateVersion < o.aggregateVersion OR (p.aggregateVersion = o.aggregateVersion AND p.id < o.id)) " +
+            "AND (p.createdDate > o.createdDate OR (p.createdDate = o.createdDate AND p.id > o.id))) " +
+            "ORDER BY o.createdDate, o.id")
+    List<OutboxEvent> findUnpublished(Limit limit);
+
+    // 릴레이는 싱크 전송을 트랜잭션 밖에서 하므로 상태 갱신은 각각의 짧은 트랜잭션으로 처리한다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.publishedAt = :publishedAt, o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1, o.lastError = :error WHERE o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1, o.lastError = :error, o.parkedAt = :parkedAt WHERE o.id = :id")
+    int park(@Param("id") Long id, @Param("error") String error, @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
@@ -0,0 +1,40 @@
+package com.arin.togetherlion.outbox.scheduler;
+
+import com.arin.togetherlion.outbox.service.OutboxRelayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final OutboxRelayService outboxRelayService;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retention:P7D}")
+    private Duration retention;
+
+    // 배치가 가득 차면 쌓인 이벤트가 더 있다고 보고 바로 이어서 보낸다. 실패가 섞인 배치는 다음 주기로 미룬다.
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:1000}")
+    public void relay() {
+        int published;
+        do {
+            published = outboxRelayService.relay(batchSize, maxAttempts);
+        } while (published == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup.fixed-delay:3600000}")
+    public void deletePublished() {
+        outboxRelayService.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+}
@@ -0,0 +1,47 @@
+package com.arin.togetherlion.outbox.service;
+
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingEvent;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.outbox.domain.OutboxEvent;
+import com.arin.togetherlion.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+
+// 게시물 이벤트를 상태 변경과 같은 트랜잭션에서 아웃박스 테이블에 기록한다.
+// 커밋 직전에 기록해 롤백된 변경의 이벤트는 남지 않고, 기록에 실패하면 상태 변경도 함께 롤백된다.
+// 상태를 바꾼 트랜잭션은 게시물 행 잠금을 커밋까지 쥐고 있으므로, 이때 읽은 게시물 버전이 게시물별 이벤트 순서가 된다.
+@Service
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    public static final String COPURCHASING = "copurchasing";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CopurchasingRepository copurchasingRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(CopurchasingEvent event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(COPURCHASING)
+                .aggregateId(event.getCopurchasingId())
+                .aggregateVersion(copurchasingRepository.findVersionById(event.getCopurchasingId()))
+                .eventType(event.getClass().getSimpleName())
+                .payload(toJson(event))
+                .build());
+    }
+
+    private String toJson(CopurchasingEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
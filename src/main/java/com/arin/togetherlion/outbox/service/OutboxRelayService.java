@@ -0,0 +1,112 @@
+package com.arin.togetherlion.outbox.service;
+
+import com.arin.togetherlion.outbox.domain.OutboxEvent;
+import com.arin.togetherlion.outbox.domain.dto.OutboxMessage;
+import com.arin.togetherlion.outbox.repository.OutboxEventRepository;
+import com.arin.togetherlion.outbox.sink.OutboxSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 아웃박스에 쌓인 이벤트를 게시물별로 (게시물 버전, id) 순서대로 싱크에 전달한다. 전달 후 발행 표시 전에 중단되면 다시 보내므로 최소 한 번 전달된다.
+// 한 이벤트 전달에 실패하면 같은 게시물의 이후 이벤트는 그 이벤트가 전달될 때까지 보내지 않아 게시물별 순서가 유지된다.
+// maxAttempts 번 실패한 이벤트는 보류 처리해 더 보내지 않는다. parked_at 을 비우면 다시 전달된다.
+// 여러 서버에서 동시에 실행하면 중복 전달이 늘어나므로 릴레이는 한 서버에서만 켜는 것을 전제로 한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelayService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final MeterRegistry meterRegistry;
+    // 스케줄러와 수동 실행이 겹쳐 같은 배치를 두 번 보내지 않도록 한 번에 하나씩 실행한다.
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    // 전달에 성공한 이벤트 수를 반환한다.
+    public int relay(int batchSize, int maxAttempts) {
+        relayLock.lock();
+        try {
+            final List<OutboxEvent> pending = inAggregateOrder(outboxEventRepository.findUnpublished(Limit.of(batchSize)));
+            final Set<String> blockedAggregates = new HashSet<>();
+            final List<Long> publishedIds = new ArrayList<>(pending.size());
+            for (OutboxEvent event : pending) {
+                final String aggregate = aggregateOf(event);
+                if (blockedAggregates.contains(aggregate))
+                    continue;
+                try {
+                    outboxSink.send(OutboxMessage.from(event));
+                    publishedIds.add(event.getId());
+                } catch (RuntimeException e) {
+                    blockedAggregates.add(aggregate);
+                    fail(event, aggregate, maxAttempts, e);
+                }
+            }
+            if (!publishedIds.isEmpty())
+                outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+
+            counter("published").increment(publishedIds.size());
+            return publishedIds.size();
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    // 배치는 기록 시각 순이므로 게시물별로 모아 버전 순으로 다시 정렬한다. 게시물 사이의 순서는 처음 나온 순서를 유지한다.
+    private List<OutboxEvent> inAggregateOrder(List<OutboxEvent> events) {
+        final Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+        events.forEach(event -> byAggregate.computeIfAbsent(aggregateOf(event), key -> new ArrayList<>()).add(event));
+        final List<OutboxEvent> ordered = new ArrayList<>(events.size());
+        byAggregate.values().forEach(aggregateEvents -> {
+            aggregateEvents.sort(Comparator.comparing(OutboxEvent::getAggregateVersion).thenComparing(OutboxEvent::getId));
+            ordered.addAll(aggregateEvents);
+        });
+        return ordered;
+    }
+
+    private String aggregateOf(OutboxEvent event) {
+        return event.getAggregateType() + ":" + event.getAggregateId();
+    }
+
+    private void fail(OutboxEvent event, String aggregate, int maxAttempts, RuntimeException e) {
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            counter("parked").increment();
+            outboxEventRepository.park(event.getId(), truncate(String.valueOf(e)), LocalDateTime.now());
+            log.error("아웃박스 이벤트 재시도 한도 초과로 보류 id={} aggregate={}", event.getId(), aggregate, e);
+            return;
+        }
+        counter("failed").increment();
+        outboxEventRepository.markFailed(event.getId(), truncate(String.valueOf(e)));
+        log.warn("아웃박스 이벤트 전달 실패 id={} aggregate={}", event.getId(), aggregate, e);
+    }
+
+    public int deletePublishedBefore(LocalDateTime publishedBefore) {
+        return outboxEventRepository.deletePublishedBefore(publishedBefore);
+    }
+
+    private Counter counter(String outcome) {
+        return Counter.builder("outbox.relay")
+                .description("아웃박스 릴레이 처리 이벤트 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,40 @@
+package com.arin.togetherlion.outbox.sink;
+
+import com.arin.togetherlion.outbox.domain.dto.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 기본 싱크. 메시지를 한 줄에 하나씩 JSON 으로 파일 끝에 덧붙인다. 다른 프로세스가 파일을 따라 읽어 소비할 수 있다.
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxSink(ObjectMapper objectMapper, @Value("${outbox.file.path:build/outbox/events.jsonl}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void send(OutboxMessage message) {
+        try {
+            if (path.getParent() != null)
+                Files.createDirectories(path.getParent());
+            Files.writeString(path, objectMapper.writeValueAsString(message) + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
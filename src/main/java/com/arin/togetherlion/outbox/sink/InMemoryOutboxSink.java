@@ -0,0 +1,29 @@
+package com.arin.togetherlion.outbox.sink;
+
+import com.arin.togetherlion.outbox.domain.dto.OutboxMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 테스트용. 받은 메시지를 크기 제한 없이 메모리에 쌓으므로 outbox.sink=memory 로 명시한 경우에만 사용한다.
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(OutboxMessage message) {
+        messages.add(message);
+    }
+
+    public List<OutboxMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+
+    public void clear() {
+        messages.clear();
+    }
+}
@@ -0,0 +1,10 @@
+package com.arin.togetherlion.outbox.sink;
+
+import com.arin.togetherlion.outbox.domain.dto.OutboxMessage;
+
+// 아웃박스 메시지를 내보낼 대상. outbox.sink 속성으로 하나를 고른다.
+// 전달에 실패하면 예외를 던지고, 릴레이가 같은 메시지를 다시 보낸다.
+public interface OutboxSink {
+
+    void send(OutboxMessage message);
+}
@@ -1,5 +1,7 @@
 package com.arin.togetherlion.point.domain;
 
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,7 +21,7 @@ public class Point {
 
     private void validateAmount(int amount) {
         if (amount < 0)
-            throw new IllegalArgumentException("포인트는 음수가 될 수 없습니다.");
+            throw CustomException.of(ErrorCode.NEGATIVE_POINT);
     }
 
     public void add(int amount) {
@@ -35,6 +37,6 @@ public class Point {
 
     private void validateCalculationAmount(int amount) {
         if (amount < 0)
-            throw new IllegalArgumentException("포인트 연산에는 음수 사용이 불가합니다.");
+            throw CustomException.of(ErrorCode.NEGATIVE_POINT_AMOUNT);
     }
 }
@@ -0,0 +1,37 @@
+package com.arin.togetherlion.point.domain;
+
+import com.arin.togetherlion.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_history", indexes = @Index(name = "idx_point_history_user", columnList = "user_id"))
+public class PointHistory extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_history_seq")
+    @SequenceGenerator(name = "point_history_seq", sequenceName = "point_history_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointHistoryType type;
+
+    @Column(nullable = false)
+    private int amount;
+
+    @Builder
+    public PointHistory(Long userId, PointHistoryType type, int amount) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+    }
+}
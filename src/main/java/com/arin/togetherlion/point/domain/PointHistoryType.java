@@ -0,0 +1,6 @@
+package com.arin.togetherlion.point.domain;
+
+public enum PointHistoryType {
+    USE,
+    CHARGE
+}
@@ -0,0 +1,12 @@
+package com.arin.togetherlion.point.repository;
+
+import com.arin.togetherlion.point.domain.PointHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
+    List<PointHistory> findByUserId(Long userId);
+}
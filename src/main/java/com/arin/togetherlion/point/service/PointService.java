@@ -0,0 +1,117 @@
+package com.arin.togetherlion.point.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.point.domain.PointHistory;
+import com.arin.togetherlion.point.domain.PointHistoryType;
+import com.arin.togetherlion.point.repository.PointHistoryRepository;
+import com.arin.togetherlion.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class PointService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // 잔액 조건을 UPDATE 문에 포함시켜 읽기-수정-쓰기 없이 원자적으로 차감한다.
+    // 락 충돌은 호출한 트랜잭션 전체를 롤백시키므로 여기서 재시도하지 않고 서비스 경계의 @RetryOnConflict 에 맡긴다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void use(Long userId, int amount) {
+        if (!tryUse(userId, amount))
+            throw CustomException.of(ErrorCode.INSUFFICIENT_POINT);
+    }
+
+    // 잔액이 부족하면 예외 대신 false 를 반환해 여러 요청을 한 트랜잭션에서 처리할 때 개별 실패로 다룰 수 있다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryUse(Long userId, int amount) {
+        validateAmount(amount);
+        if (userRepository.usePoint(userId, amount) == 0)
+            return false;
+        record(userId, PointHistoryType.USE, amount);
+        return true;
+    }
+
+    // 여러 사용자의 차감을 사용자 수와 무관하게 소수의 UPDATE 와 배치 insert 로 처리한다.
+    // 한 명이라도 잔액이 부족하면 false 를 반환하며, 이미 실행된 차감은 호출한 트랜잭션을 롤백해 되돌려야 한다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryUseAll(Map<Long, Integer> amountsByUserId) {
+        amountsByUserId.values().forEach(this::validateAmount);
+
+        final List<PointHistory> histories = new ArrayList<>();
+        Map<Long, Integer> chunk = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : amountsByUserId.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            histories.add(toHistory(entry.getKey(), PointHistoryType.USE, entry.getValue()));
+            if (chunk.size() == CHUNK_SIZE) {
+                if (userRepository.usePoints(chunk) != chunk.size())
+                    return false;
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (userRepository.usePoints(chunk) != chunk.size())
+            return false;
+        pointHistoryRepository.saveAll(histories);
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void charge(Long userId, int amount) {
+        validateAmount(amount);
+        if (userRepository.chargePoint(userId, amount) == 0)
+            throw CustomException.of(ErrorCode.USER_NOT_FOUND);
+        record(userId, PointHistoryType.CHARGE, amount);
+    }
+
+    // 여러 사용자에 대한 환급을 사용자 수와 무관하게 소수의 UPDATE 와 배치 insert 로 처리한다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void chargeAll(Map<Long, Integer> amountsByUserId) {
+        amountsByUserId.values().forEach(this::validateAmount);
+
+        final List<PointHistory> histories = new ArrayList<>();
+        Map<Long, Integer> chunk = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : amountsByUserId.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            histories.add(toHistory(entry.getKey(), PointHistoryType.CHARGE, entry.getValue()));
+            if (chunk.size() == CHUNK_SIZE) {
+                chargeChunk(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        chargeChunk(chunk);
+        pointHistoryRepository.saveAll(histories);
+    }
+
+    private void chargeChunk(Map<Long, Integer> chunk) {
+        if (userRepository.chargePoints(chunk) != chunk.size())
+            throw CustomException.of(ErrorCode.USER_NOT_FOUND);
+    }
+
+    private void validateAmount(int amount) {
+        if (amount < 0)
+            throw CustomException.of(ErrorCode.NEGATIVE_POINT_AMOUNT);
+    }
+
+    private void record(Long userId, PointHistoryType type, int amount) {
+        pointHistoryRepository.save(toHistory(userId, type, amount));
+    }
+
+    private PointHistory toHistory(Long userId, PointHistoryType type, int amount) {
+        return PointHistory.builder()
+                .userId(userId)
+                .type(type)
+                .amount(amount)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.arin.togetherlion.user.controller;
+
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingPageResponse;
+import com.arin.togetherlion.user.service.UserCopurchasingQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserCopurchasingQueryService userCopurchasingQueryService;
+
+    @GetMapping("/{userId}/copurchasings")
+    public ResponseEntity<UserCopurchasingPageResponse> findCopurchasings(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(userCopurchasingQueryService.findAll(userId, cursorId, size));
+    }
+}
@@ -0,0 +1,6 @@
+package com.arin.togetherlion.user.domain;
+
+public enum CopurchasingRole {
+    WRITER,
+    PARTICIPANT
+}
@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "member")
 public class User extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -30,6 +31,9 @@ public class User extends BaseTimeEntity {
     @Embedded
     private Point point;
 
+    @Version
+    private Long version;
+
     @Builder
     public User(String email, String password, String nickname) {
         this.email = email;
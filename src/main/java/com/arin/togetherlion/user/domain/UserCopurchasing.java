@@ -0,0 +1,66 @@
+package com.arin.togetherlion.user.domain;
+
+import com.arin.togetherlion.common.BaseTimeEntity;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사용자별 공동구매 목록 조회용 읽기 모델. 사용자와 게시물 한 쌍당 한 행이며 게시물 이벤트로만 갱신된다.
+// status 는 모집 중, 시작, 실패만 구분한다. 모집 마감(FULL)은 참여 이벤트로 알 수 없어 모집 중으로 남는다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_copurchasing",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_copurchasing_user_copurchasing", columnNames = {"user_id", "copurchasing_id"}),
+        indexes = @Index(name = "idx_user_copurchasing_copurchasing", columnList = "copurchasing_id"))
+public class UserCopurchasing extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_copurchasing_seq")
+    @SequenceGenerator(name = "user_copurchasing_seq", sequenceName = "user_copurchasing_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "copurchasing_id", nullable = false)
+    private Long copurchasingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CopurchasingRole role;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "purchase_number", nullable = false)
+    private int purchaseNumber;
+
+    @Column(name = "payment_point", nullable = false)
+    private int paymentPoint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CopurchasingStatus status;
+
+    @Column(name = "deadline_date", nullable = false)
+    private LocalDateTime deadlineDate;
+
+    @Builder
+    public UserCopurchasing(Long userId, Long copurchasingId, CopurchasingRole role, String title, int purchaseNumber,
+                            int paymentPoint, LocalDateTime deadlineDate) {
+        this.userId = userId;
+        this.copurchasingId = copurchasingId;
+        this.role = role;
+        this.title = title;
+        this.purchaseNumber = purchaseNumber;
+        this.paymentPoint = paymentPoint;
+        this.deadlineDate = deadlineDate;
+        this.status = CopurchasingStatus.RECRUITING;
+    }
+}
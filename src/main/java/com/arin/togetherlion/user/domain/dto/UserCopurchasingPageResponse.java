@@ -0,0 +1,25 @@
+package com.arin.togetherlion.user.domain.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserCopurchasingPageResponse {
+    private List<UserCopurchasingResponse> copurchasings;
+    private boolean hasNext;
+    private Long nextCursorId;
+
+    public static UserCopurchasingPageResponse of(List<UserCopurchasingResponse> fetched, int size) {
+        final boolean hasNext = fetched.size() > size;
+        final List<UserCopurchasingResponse> copurchasings = hasNext ? fetched.subList(0, size) : fetched;
+        if (!hasNext)
+            return new UserCopurchasingPageResponse(copurchasings, false, null);
+        return new UserCopurchasingPageResponse(copurchasings, true, copurchasings.get(copurchasings.size() - 1).getCopurchasingId());
+    }
+}
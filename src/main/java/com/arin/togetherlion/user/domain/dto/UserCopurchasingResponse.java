@@ -0,0 +1,23 @@
+package com.arin.togetherlion.user.domain.dto;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.user.domain.CopurchasingRole;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserCopurchasingResponse {
+    private Long copurchasingId;
+    private String title;
+    private CopurchasingRole role;
+    private int purchaseNumber;
+    private int paymentPoint;
+    private CopurchasingStatus status;
+    private LocalDateTime deadlineDate;
+}
@@ -0,0 +1,36 @@
+package com.arin.togetherlion.user.repository;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.user.domain.UserCopurchasing;
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserCopurchasingRepository extends JpaRepository<UserCopurchasing, Long> {
+
+    // (user_id, copurchasing_id) 유니크 인덱스의 역순 범위 스캔 한 번으로 처리된다.
+    @Query("SELECT new com.arin.togetherlion.user.domain.dto.UserCopurchasingResponse(" +
+            "uc.copurchasingId, uc.title, uc.role, uc.purchaseNumber, uc.paymentPoint, uc.status, uc.deadlineDate) " +
+            "FROM UserCopurchasing uc WHERE uc.userId = :userId AND uc.copurchasingId < :cursorId " +
+            "ORDER BY uc.copurchasingId DESC")
+    List<UserCopurchasingResponse> findByUserId(@Param("userId") Long userId, @Param("cursorId") Long cursorId, Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserCopurchasing uc SET uc.status = :status WHERE uc.copurchasingId = :copurchasingId")
+    int updateStatusByCopurchasingId(@Param("copurchasingId") Long copurchasingId, @Param("status") CopurchasingStatus status);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM UserCopurchasing uc WHERE uc.userId = :userId AND uc.copurchasingId = :copurchasingId")
+    int deleteByUserIdAndCopurchasingId(@Param("userId") Long userId, @Param("copurchasingId") Long copurchasingId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM UserCopurchasing uc WHERE uc.copurchasingId = :copurchasingId")
+    int deleteByCopurchasingId(@Param("copurchasingId") Long copurchasingId);
+}
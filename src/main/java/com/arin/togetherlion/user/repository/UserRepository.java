@@ -2,8 +2,21 @@ package com.arin.togetherlion.user.repository;
 
 import com.arin.togetherlion.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.point.amount = u.point.amount - :amount, u.version = u.version + 1 " +
+            "WHERE u.id = :userId AND u.point.amount >= :amount")
+    int usePoint(@Param("userId") Long userId, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.point.amount = u.point.amount + :amount, u.version = u.version + 1 " +
+            "WHERE u.id = :userId")
+    int chargePoint(@Param("userId") Long userId, @Param("amount") int amount);
 }
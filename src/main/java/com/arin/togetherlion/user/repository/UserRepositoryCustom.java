@@ -0,0 +1,9 @@
+package com.arin.togetherlion.user.repository;
+
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+    int chargePoints(Map<Long, Integer> amountsByUserId);
+
+    int usePoints(Map<Long, Integer> amountsByUserId);
+}
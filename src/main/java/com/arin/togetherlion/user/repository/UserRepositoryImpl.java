@@ -0,0 +1,63 @@
+package com.arin.togetherlion.user.repository;
+
+import com.arin.togetherlion.user.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Map;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 사용자별 금액을 CASE 식으로 묶어 한 번의 UPDATE 로 적립한다.
+    @Override
+    public int chargePoints(Map<Long, Integer> amountsByUserId) {
+        if (amountsByUserId.isEmpty())
+            return 0;
+        entityManager.flush();
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        final Root<User> user = update.from(User.class);
+        final Path<Integer> amount = user.get("point").get("amount");
+        final Path<Long> version = user.get("version");
+
+        update.set(amount, cb.sum(amount, amountOf(cb, user, amountsByUserId)))
+                .set(version, cb.sum(version, 1L))
+                .where(user.get("id").in(amountsByUserId.keySet()));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    // 잔액 조건까지 CASE 식으로 묶어 한 번의 UPDATE 로 차감한다. 잔액이 부족한 사용자의 행은 바뀌지 않는다.
+    @Override
+    public int usePoints(Map<Long, Integer> amountsByUserId) {
+        if (amountsByUserId.isEmpty())
+            return 0;
+        entityManager.flush();
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        final Root<User> user = update.from(User.class);
+        final Path<Integer> amount = user.get("point").get("amount");
+        final Path<Long> version = user.get("version");
+
+        update.set(amount, cb.diff(amount, amountOf(cb, user, amountsByUserId)))
+                .set(version, cb.sum(version, 1L))
+                .where(user.get("id").in(amountsByUserId.keySet()),
+                        cb.ge(amount, amountOf(cb, user, amountsByUserId)));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private Expression<Integer> amountOf(CriteriaBuilder cb, Root<User> user, Map<Long, Integer> amountsByUserId) {
+        final CriteriaBuilder.SimpleCase<Long, Integer> amount = cb.selectCase(user.get("id"));
+        amountsByUserId.forEach(amount::when);
+        return amount.otherwise(0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.arin.togetherlion.user.service;
+
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingClosedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingCreatedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingDeletedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.ParticipationAddedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.ParticipationRemovedEvent;
+import com.arin.togetherlion.user.domain.CopurchasingRole;
+import com.arin.togetherlion.user.domain.UserCopurchasing;
+import com.arin.togetherlion.user.repository.UserCopurchasingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시물 이벤트를 사용자별 공동구매 읽기 모델에 반영한다.
+// 상태 변경과 같은 트랜잭션의 커밋 직전에 반영해 읽기 모델이 원본과 어긋나지 않는다.
+// 게시물 행 잠금을 쥔 채 실행되므로 같은 게시물의 행은 동시에 갱신되지 않는다.
+@Service
+@RequiredArgsConstructor
+public class UserCopurchasingProjection {
+
+    private final UserCopurchasingRepository userCopurchasingRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCreated(CopurchasingCreatedEvent event) {
+        userCopurchasingRepository.save(UserCopurchasing.builder()
+                .userId(event.getWriterId())
+                .copurchasingId(event.getCopurchasingId())
+                .role(CopurchasingRole.WRITER)
+                .title(event.getTitle())
+                .purchaseNumber(event.getPurchaseNumber())
+                .paymentPoint(event.getPaymentPoint())
+                .deadlineDate(event.getDeadlineDate())
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onParticipationAdded(ParticipationAddedEvent event) {
+        userCopurchasingRepository.save(UserCopurchasing.builder()
+                .userId(event.getParticipantId())
+                .copurchasingId(event.getCopurchasingId())
+                .role(CopurchasingRole.PARTICIPANT)
+                .title(event.getTitle())
+                .purchaseNumber(event.getPurchaseNumber())
+                .paymentPoint(event.getPaymentPoint())
+                .deadlineDate(event.getDeadlineDate())
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onParticipationRemoved(ParticipationRemovedEvent event) {
+        userCopurchasingRepository.deleteByUserIdAndCopurchasingId(event.getParticipantId(), event.getCopurchasingId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onClosed(CopurchasingClosedEvent event) {
+        userCopurchasingRepository.updateStatusByCopurchasingId(event.getCopurchasingId(), event.getStatus());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDeleted(CopurchasingDeletedEvent event) {
+        userCopurchasingRepository.deleteByCopurchasingId(event.getCopurchasingId());
+    }
+}
@@ -0,0 +1,34 @@
+package com.arin.togetherlion.user.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingPageResponse;
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingResponse;
+import com.arin.togetherlion.user.repository.UserCopurchasingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 사용자의 공동구매 목록은 읽기 모델만 조회해, 참여한 게시물 수와 무관하게 쿼리 한 번으로 끝난다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserCopurchasingQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserCopurchasingRepository userCopurchasingRepository;
+
+    // 최근 게시물부터 반환한다. 다음 페이지는 응답의 nextCursorId 로 이어서 조회한다.
+    public UserCopurchasingPageResponse findAll(Long userId, Long cursorId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw CustomException.of(ErrorCode.INVALID_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+        final List<UserCopurchasingResponse> fetched = userCopurchasingRepository.findByUserId(
+                userId, cursorId == null ? Long.MAX_VALUE : cursorId, Limit.of(size + 1));
+        return UserCopurchasingPageResponse.of(fetched, size);
+    }
+}
@@ -0,0 +1,52 @@
+-- 최초 배포 스키마 (MySQL). 마이그레이션 도입 전부터 운영하던 DB 는 이 버전을 기준선으로 표시하고 건너뛴다.
+CREATE TABLE member
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    email        VARCHAR(255) NOT NULL,
+    nickname     VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    amount       INT,
+    created_date DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE copurchasing
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    title              VARCHAR(255) NOT NULL,
+    content            VARCHAR(255),
+    product_url        VARCHAR(255) NOT NULL,
+    purchase_photo_url VARCHAR(255),
+    product_total_cost INT          NOT NULL,
+    shipping_cost      INT          NOT NULL,
+    product_min_number INT          NOT NULL,
+    product_max_number INT          NOT NULL,
+    deadline_date      DATETIME(6)  NOT NULL,
+    trade_date         DATETIME(6)  NOT NULL,
+    expiration_date    DATETIME(6),
+    user_id            BIGINT,
+    created_date       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_copurchasing_writer FOREIGN KEY (user_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE participation
+(
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    purchase_number INT    NOT NULL,
+    amount          INT,
+    confirm_date    DATETIME(6),
+    user_id         BIGINT,
+    created_date    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_participation_participant FOREIGN KEY (user_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE copurchasing_participations
+(
+    copurchasing_id   BIGINT NOT NULL,
+    participations_id BIGINT NOT NULL,
+    CONSTRAINT uk_copurchasing_participations_participation UNIQUE (participations_id),
+    CONSTRAINT fk_copurchasing_participations_copurchasing FOREIGN KEY (copurchasing_id) REFERENCES copurchasing (id),
+    CONSTRAINT fk_copurchasing_participations_participation FOREIGN KEY (participations_id) REFERENCES participation (id)
+) ENGINE = InnoDB;
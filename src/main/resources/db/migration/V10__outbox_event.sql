@@ -0,0 +1,27 @@
+-- 게시물 이벤트 아웃박스 테이블과 id 시퀀스 테이블 (MySQL)
+CREATE TABLE outbox_event
+(
+    id                BIGINT       NOT NULL,
+    aggregate_type    VARCHAR(50)  NOT NULL,
+    aggregate_id      BIGINT       NOT NULL,
+    aggregate_version BIGINT       NOT NULL,
+    event_type        VARCHAR(100) NOT NULL,
+    payload           TEXT         NOT NULL,
+    published_at      DATETIME(6),
+    attempts          INT          NOT NULL,
+    last_error        VARCHAR(500),
+    parked_at         DATETIME(6),
+    created_date      DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 대기 이벤트를 기록 순으로 읽는 인덱스와, 같은 게시물의 대기 이벤트를 확인하는 인덱스
+CREATE INDEX idx_outbox_event_published_at ON outbox_event (published_at, created_date, id);
+CREATE INDEX idx_outbox_event_aggregate ON outbox_event (aggregate_type, aggregate_id, published_at);
+
+CREATE TABLE outbox_event_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO outbox_event_seq (next_val)
+VALUES (1);
@@ -0,0 +1,69 @@
+-- 사용자별 공동구매 읽기 모델 테이블과 기존 게시물·참여 백필 (MySQL)
+CREATE TABLE user_copurchasing
+(
+    id              BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    copurchasing_id BIGINT       NOT NULL,
+    role            VARCHAR(20)  NOT NULL,
+    title           VARCHAR(255) NOT NULL,
+    purchase_number INT          NOT NULL,
+    payment_point   INT          NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    deadline_date   DATETIME(6)  NOT NULL,
+    created_date    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_copurchasing_user_copurchasing UNIQUE (user_id, copurchasing_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_user_copurchasing_copurchasing ON user_copurchasing (copurchasing_id);
+
+-- 삭제되지 않은 게시물의 참여마다 한 행을 만든다. 작성자의 참여는 WRITER, 나머지는 PARTICIPANT 다.
+-- 참여 행이 없는 작성자도 목록에 보이도록 수량과 결제 포인트 0 인 WRITER 행을 만든다.
+-- 읽기 모델은 모집 마감(FULL)을 구분하지 않으므로 모집 중(RECRUITING)으로 넣는다.
+INSERT INTO user_copurchasing (id, user_id, copurchasing_id, role, title, purchase_number, payment_point, status,
+                               deadline_date, created_date)
+SELECT ROW_NUMBER() OVER (ORDER BY t.copurchasing_id, t.user_id),
+       t.user_id,
+       t.copurchasing_id,
+       t.role,
+       t.title,
+       t.purchase_number,
+       t.payment_point,
+       t.status,
+       t.deadline_date,
+       t.created_date
+FROM (SELECT p.user_id,
+             c.id                                                         AS copurchasing_id,
+             CASE WHEN p.user_id = c.user_id THEN 'WRITER' ELSE 'PARTICIPANT' END AS role,
+             c.title,
+             p.purchase_number,
+             COALESCE(p.amount, 0)                                        AS payment_point,
+             CASE WHEN c.status = 'FULL' THEN 'RECRUITING' ELSE c.status END AS status,
+             c.deadline_date,
+             p.created_date
+      FROM participation p
+               JOIN copurchasing c ON c.id = p.copurchasing_id
+      WHERE c.status <> 'DELETED'
+        AND p.user_id IS NOT NULL
+      UNION ALL
+      SELECT c.user_id,
+             c.id,
+             'WRITER',
+             c.title,
+             0,
+             0,
+             CASE WHEN c.status = 'FULL' THEN 'RECRUITING' ELSE c.status END,
+             c.deadline_date,
+             c.created_date
+      FROM copurchasing c
+      WHERE c.status <> 'DELETED'
+        AND c.user_id IS NOT NULL
+        AND NOT EXISTS (SELECT 1 FROM participation p WHERE p.copurchasing_id = c.id AND p.user_id = c.user_id)) t;
+
+CREATE TABLE user_copurchasing_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO user_copurchasing_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 + 50
+FROM user_copurchasing;
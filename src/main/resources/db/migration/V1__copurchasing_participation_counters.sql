@@ -0,0 +1,14 @@
+-- 공동구매 참여 집계 컬럼 추가 및 기존 데이터 백필 (MySQL)
+ALTER TABLE copurchasing
+    ADD COLUMN total_product_number INT NOT NULL DEFAULT 0,
+    ADD COLUMN participant_count INT NOT NULL DEFAULT 0;
+
+UPDATE copurchasing c
+    JOIN (SELECT cp.copurchasing_id,
+                 SUM(p.purchase_number) AS total_product_number,
+                 COUNT(*) AS participant_count
+          FROM copurchasing_participations cp
+                   JOIN participation p ON p.id = cp.participations_id
+          GROUP BY cp.copurchasing_id) t ON t.copurchasing_id = c.id
+SET c.total_product_number = t.total_product_number,
+    c.participant_count = t.participant_count;
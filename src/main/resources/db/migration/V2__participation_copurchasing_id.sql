@@ -0,0 +1,10 @@
+-- 참여 테이블에 공동구매 FK 컬럼 추가 및 (공동구매, 참여자) 유니크 인덱스 생성 (MySQL)
+ALTER TABLE participation
+    ADD COLUMN copurchasing_id BIGINT NULL;
+
+UPDATE participation p
+    JOIN copurchasing_participations cp ON cp.participations_id = p.id
+SET p.copurchasing_id = cp.copurchasing_id;
+
+CREATE UNIQUE INDEX uk_participation_copurchasing_participant
+    ON participation (copurchasing_id, user_id);
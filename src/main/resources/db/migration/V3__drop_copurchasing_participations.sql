@@ -0,0 +1,6 @@
+-- 참여 -> 공동구매 FK 매핑으로 전환 후 사용하지 않는 조인 테이블 제거 (MySQL)
+ALTER TABLE participation
+    ADD CONSTRAINT fk_participation_copurchasing
+        FOREIGN KEY (copurchasing_id) REFERENCES copurchasing (id);
+
+DROP TABLE copurchasing_participations;
@@ -0,0 +1,2 @@
+-- 공동구매 목록 키셋 페이지네이션용 (deadline_date, id) 인덱스 (MySQL)
+CREATE INDEX idx_copurchasing_deadline_date ON copurchasing (deadline_date, id);
@@ -0,0 +1,6 @@
+-- 공동구매 상태 컬럼 추가 및 마감 스캔용 (status, deadline_date, id) 인덱스 (MySQL)
+-- 기존 게시물은 RECRUITING 으로 시작하며, 마감일이 지난 게시물은 다음 스케줄러 실행 시 STARTED/FAILED 로 전환된다.
+ALTER TABLE copurchasing
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'RECRUITING';
+
+CREATE INDEX idx_copurchasing_status_deadline_date ON copurchasing (status, deadline_date, id);
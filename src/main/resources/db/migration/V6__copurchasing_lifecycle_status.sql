@@ -0,0 +1,10 @@
+-- 모집 완료(FULL)·삭제(DELETED) 상태 도입 (MySQL)
+-- MySQL 은 부분 인덱스를 지원하지 않으므로 status 를 선두 컬럼으로 둔 (status, deadline_date, id) 인덱스가
+-- "마감 임박 모집 중", "모집 완료" 피드와 마감 스캔을 모두 범위 스캔으로 처리한다.
+UPDATE copurchasing
+SET status = 'FULL'
+WHERE status = 'RECRUITING'
+  AND total_product_number >= product_max_number;
+
+-- 피드 쿼리가 모두 status 로 시작하므로 마감일 단독 인덱스는 더 이상 사용되지 않는다.
+DROP INDEX idx_copurchasing_deadline_date ON copurchasing;
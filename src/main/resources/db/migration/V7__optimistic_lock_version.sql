@@ -0,0 +1,6 @@
+-- 공동구매·사용자 낙관적 락 버전 컬럼 (MySQL)
+ALTER TABLE copurchasing
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE member
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,12 @@
+-- 포인트 충전·사용 내역 테이블 (MySQL)
+CREATE TABLE point_history
+(
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT      NOT NULL,
+    type         VARCHAR(20) NOT NULL,
+    amount       INT         NOT NULL,
+    created_date DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_point_history_user ON point_history (user_id);
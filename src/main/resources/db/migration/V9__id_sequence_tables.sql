@@ -0,0 +1,34 @@
+-- 엔티티 id 를 IDENTITY 에서 pooled 시퀀스(allocationSize 50)로 전환 (MySQL)
+-- MySQL 은 시퀀스가 없어 Hibernate 가 next_val 한 행짜리 테이블로 대신한다.
+-- 기존 AUTO_INCREMENT 로 받은 id 와 겹치지 않도록 현재 최대 id + 1 에 할당 크기를 더한 값에서 시작한다.
+CREATE TABLE member_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO member_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 + 50
+FROM member;
+
+CREATE TABLE copurchasing_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO copurchasing_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 + 50
+FROM copurchasing;
+
+CREATE TABLE participation_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO participation_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 + 50
+FROM participation;
+
+CREATE TABLE point_history_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO point_history_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 + 50
+FROM point_history;
@@ -0,0 +1,35 @@
+package com.arin.togetherlion.common;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CustomExceptionTest {
+
+    @Test
+    @DisplayName("에러 코드마다 미리 만든 같은 인스턴스를 사용한다.")
+    void preallocated() {
+        // when
+        final CustomException first = CustomException.of(ErrorCode.RECRUITMENT_FULL);
+        final CustomException second = CustomException.of(ErrorCode.RECRUITMENT_FULL);
+
+        // then
+        Assertions.assertThat(first).isSameAs(second);
+        Assertions.assertThat(first.getMessage()).isEqualTo(ErrorCode.RECRUITMENT_FULL.getMessage());
+    }
+
+    @Test
+    @DisplayName("스택 트레이스와 suppressed 예외를 기록하지 않는다.")
+    void stackless() {
+        // given
+        final CustomException exception = CustomException.of(ErrorCode.CANT_JOIN);
+
+        // when
+        exception.fillInStackTrace();
+        exception.addSuppressed(new RuntimeException());
+
+        // then
+        Assertions.assertThat(exception.getStackTrace()).isEmpty();
+        Assertions.assertThat(exception.getSuppressed()).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.arin.togetherlion.common;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class MonitoredAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MonitoredService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        final AspectJProxyFactory factory = new AspectJProxyFactory(new MonitoredService());
+        factory.addAspect(new MonitoredAspect(observationRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공한 호출은 메서드 이름과 성공 결과로 기록된다.")
+    void success() {
+        // when
+        proxy.join(false);
+
+        // then
+        Assertions.assertThat(meterRegistry.get("test.service")
+                        .tag("method", "join")
+                        .tag("outcome", "success")
+                        .tag("errorCode", "NONE")
+                        .timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 에러 코드와 함께 기록된다.")
+    void failure() {
+        // when
+        Assertions.assertThatThrownBy(() -> proxy.join(true))
+                .isInstanceOf(CustomException.class);
+
+        // then
+        Assertions.assertThat(meterRegistry.get("test.service")
+                        .tag("method", "join")
+                        .tag("outcome", "failure")
+                        .tag("errorCode", ErrorCode.CANT_JOIN.name())
+                        .timer().count())
+                .isEqualTo(1);
+    }
+
+    @Monitored("test.service")
+    static class MonitoredService {
+
+        public void join(boolean fail) {
+            if (fail)
+                throw CustomException.of(ErrorCode.CANT_JOIN);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.arin.togetherlion.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+class RetryOnConflictAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictingService target;
+    private ConflictingService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = new ConflictingService();
+        final AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RetryOnConflictAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌이 발생하면 최대 시도 횟수 안에서 다시 실행한다.")
+    void retry() {
+        // given
+        target.conflicts = 2;
+
+        // when
+        final int result = proxy.join();
+
+        // then
+        Assertions.assertThat(result).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.get("transaction.conflicts").tag("outcome", "retried").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("교착 상태로 롤백되면 새 트랜잭션으로 다시 실행한다.")
+    void retryDeadlock() {
+        // given
+        target.deadlocks = 1;
+
+        // when
+        final int result = proxy.join();
+
+        // then
+        Assertions.assertThat(result).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("transaction.conflicts").tag("type", "pessimistic").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘어 충돌하면 동시 수정 예외가 발생한다.")
+    void exhausted() {
+        // given
+        target.conflicts = 3;
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> proxy.join())
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CONCURRENT_MODIFICATION);
+        Assertions.assertThat(target.attempts).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.get("transaction.conflicts").tag("outcome", "exhausted").counter().count())
+                .isEqualTo(1);
+    }
+
+    static class ConflictingService {
+
+        int conflicts;
+        int deadlocks;
+        int attempts;
+
+        @RetryOnConflict(backoffMillis = 1, maxBackoffMillis = 1)
+        public int join() {
+            attempts++;
+            if (attempts <= deadlocks)
+                throw new CannotAcquireLockException("Deadlock detected");
+            if (attempts <= conflicts)
+                throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+            return attempts;
+        }
+    }
+}
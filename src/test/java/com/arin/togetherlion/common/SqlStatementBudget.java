@@ -0,0 +1,59 @@
+package com.arin.togetherlion.common;
+
+import org.assertj.core.api.Assertions;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.function.Supplier;
+
+// 동작이 실행한 SQL 문 수가 예산을 넘으면 테스트를 실패시킨다.
+// 실제 요청처럼 측정 전에 영속성 컨텍스트를 비우고, 측정 후 flush 해 쓰기 지연된 SQL 까지 센다.
+public class SqlStatementBudget {
+
+    private final TestEntityManager entityManager;
+
+    public SqlStatementBudget(TestEntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public void assertAtMost(int budget, Runnable operation) {
+        assertAtMost(budget, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    public <T> T assertAtMost(int budget, Supplier<T> operation) {
+        final Measured<T> measured = measure(operation);
+        Assertions.assertThat(measured.statements())
+                .as("SQL 문 수")
+                .isLessThanOrEqualTo(budget);
+        return measured.result();
+    }
+
+    // 입력 크기에 따라 SQL 문 수가 달라지는지(N+1) 비교할 때 쓴다.
+    public int count(Runnable operation) {
+        return measure(() -> {
+            operation.run();
+            return null;
+        }).statements();
+    }
+
+    private <T> Measured<T> measure(Supplier<T> operation) {
+        entityManager.flush();
+        entityManager.clear();
+
+        final T result;
+        final int statements;
+        SqlStatementCounter.start();
+        try {
+            result = operation.get();
+            entityManager.flush();
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+        return new Measured<>(result, statements);
+    }
+
+    private record Measured<T>(T result, int statements) {
+    }
+}
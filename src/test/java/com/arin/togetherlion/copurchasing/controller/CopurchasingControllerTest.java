@@ -2,32 +2,53 @@ package com.arin.togetherlion.copurchasing.controller;
 
 import com.arin.togetherlion.common.CustomException;
 import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingFilter;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.ParticipationTicket;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingBulkCreateRequest;
 import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingDetailResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingPageResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResult;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
 import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
 import com.arin.togetherlion.copurchasing.domain.dto.ParticipationDeleteRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.PriceQuoteResponse;
+import com.arin.togetherlion.copurchasing.service.CopurchasingQueryService;
+import com.arin.togetherlion.copurchasing.service.CopurchasingSearchService;
 import com.arin.togetherlion.copurchasing.service.CopurchasingService;
+import com.arin.togetherlion.copurchasing.service.CopurchasingSnapshotService;
+import com.arin.togetherlion.copurchasing.service.ParticipationQueueService;
+import com.arin.togetherlion.copurchasing.service.PriceQuoteService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CopurchasingController.class)
 @MockBean(JpaMetamodelMappingContext.class)
+@Import(SimpleMeterRegistry.class)
 class CopurchasingControllerTest {
 
     @Autowired
@@ -36,6 +57,21 @@ class CopurchasingControllerTest {
     @MockBean
     private CopurchasingService copurchasingService;
 
+    @MockBean
+    private CopurchasingQueryService copurchasingQueryService;
+
+    @MockBean
+    private ParticipationQueueService participationQueueService;
+
+    @MockBean
+    private CopurchasingSnapshotService copurchasingSnapshotService;
+
+    @MockBean
+    private PriceQuoteService priceQuoteService;
+
+    @MockBean
+    private CopurchasingSearchService copurchasingSearchService;
+
     @InjectMocks
     private CopurchasingController copurchasingController;
 
@@ -90,6 +126,156 @@ class CopurchasingControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("/coupurchasing/bulk 유효한 post 요청 시 201 응답과 생성된 Id 목록을 반환한다.")
+    void bulkPostSuccess() throws Exception {
+        CopurchasingCreateRequest validRequest = CopurchasingCreateRequest.builder()
+                .title("title")
+                .productTotalCost(10000)
+                .shippingCost(5000)
+                .productUrl("url")
+                .productMinNumber(1)
+                .productMaxNumber(10)
+                .deadlineDate(LocalDateTime.now().plusDays(3))
+                .tradeDate(LocalDateTime.now().plusDays(7))
+                .writerId(1L)
+                .build();
+        CopurchasingBulkCreateRequest request = new CopurchasingBulkCreateRequest(List.of(validRequest, validRequest));
+
+        when(copurchasingService.createAll(anyList())).thenReturn(List.of(1L, 2L));
+
+        mockMvc.perform(post("/copurchasings/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0]").value(1L))
+                .andExpect(jsonPath("$[1]").value(2L));
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/bulk 유효하지 않은 게시물이 포함된 post 요청 시 400 응답을 반환한다.")
+    void bulkPostFail() throws Exception {
+        CopurchasingCreateRequest invalidRequest = CopurchasingCreateRequest.builder()
+                .productTotalCost(10000)
+                .shippingCost(5000)
+                .writerId(1L)
+                .build();
+        CopurchasingBulkCreateRequest request = new CopurchasingBulkCreateRequest(List.of(invalidRequest));
+
+        mockMvc.perform(post("/copurchasings/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("/coupurchasing get 요청 시 커서 이후의 게시물 목록과 200 응답을 반환한다.")
+    void findAllSuccess() throws Exception {
+        LocalDateTime cursorDeadlineDate = LocalDateTime.of(2024, 7, 1, 12, 0);
+        CopurchasingPageResponse response = CopurchasingPageResponse.of(List.of(), 20);
+
+        when(copurchasingQueryService.findAll(CopurchasingFilter.STARTED, cursorDeadlineDate, 10L, 20)).thenReturn(response);
+
+        mockMvc.perform(get("/copurchasings")
+                        .param("status", "STARTED")
+                        .param("cursorDeadlineDate", "2024-07-01T12:00:00")
+                        .param("cursorId", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(copurchasingQueryService).findAll(CopurchasingFilter.STARTED, cursorDeadlineDate, 10L, 20);
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/{id} get 요청 시 게시물 상세 정보와 200 응답을 반환한다.")
+    void findByIdSuccess() throws Exception {
+        Long copurchasingId = 1L;
+        CopurchasingDetailResponse response = new CopurchasingDetailResponse(copurchasingId, "title", "content", 10000, 5000,
+                "url", null, 1, 10, 3, 7, 15000, LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(7),
+                null, 2L, "writer", List.of("writer", "participant"));
+
+        when(copurchasingQueryService.findById(copurchasingId)).thenReturn(response);
+
+        mockMvc.perform(get("/copurchasings/{copurchasingId}", copurchasingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unitPrice").value(15000))
+                .andExpect(jsonPath("$.remainingProductNumber").value(7))
+                .andExpect(jsonPath("$.participantNicknames[1]").value("participant"));
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/{id}/summary get 요청 시 게시물 요약과 200 응답을 반환한다.")
+    void findSummarySuccess() throws Exception {
+        Long copurchasingId = 1L;
+        CopurchasingSnapshot snapshot = new CopurchasingSnapshot(copurchasingId, "title", 10000, 5000, 1, 10, 3, 2,
+                LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(7), null, CopurchasingStatus.RECRUITING, 0L);
+
+        when(copurchasingSnapshotService.find(copurchasingId)).thenReturn(snapshot);
+
+        mockMvc.perform(get("/copurchasings/{copurchasingId}/summary", copurchasingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalProductNumber").value(3))
+                .andExpect(jsonPath("$.status").value("RECRUITING"));
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/search get 요청 시 검색 결과와 200 응답을 반환한다.")
+    void searchSuccess() throws Exception {
+        CopurchasingSearchResponse response = new CopurchasingSearchResponse(List.of(
+                new CopurchasingSearchResult(1L, "캠핑 의자", CopurchasingStatus.RECRUITING, LocalDateTime.now().plusDays(3), 1.5f)), false);
+
+        when(copurchasingSearchService.search("캠핑", CopurchasingFilter.OPEN, null, null, 0, 20)).thenReturn(response);
+
+        mockMvc.perform(get("/copurchasings/search")
+                        .param("keyword", "캠핑")
+                        .param("status", "OPEN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.copurchasings[0].id").value(1))
+                .andExpect(jsonPath("$.copurchasings[0].title").value("캠핑 의자"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/search 검색어가 비어 있는 get 요청 시 400 응답을 반환한다.")
+    void searchFail() throws Exception {
+        when(copurchasingSearchService.search(eq(" "), any(), any(), any(), anyInt(), anyInt()))
+                .thenThrow(CustomException.of(ErrorCode.INVALID_SEARCH_KEYWORD));
+
+        mockMvc.perform(get("/copurchasings/search")
+                        .param("keyword", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/{id}/quote get 요청 시 보장 금액과 예상 금액, 200 응답을 반환한다.")
+    void quoteSuccess() throws Exception {
+        Long copurchasingId = 1L;
+        CopurchasingSnapshot snapshot = new CopurchasingSnapshot(copurchasingId, "title", 10000, 2000, 2, 10, 2, 2,
+                LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(7), null, CopurchasingStatus.RECRUITING, 3L);
+
+        when(priceQuoteService.quote(copurchasingId, 2)).thenReturn(PriceQuoteResponse.of(snapshot, 2));
+
+        mockMvc.perform(get("/copurchasings/{copurchasingId}/quote", copurchasingId)
+                        .param("purchaseNumber", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.guaranteedPaymentCost").value(12000))
+                .andExpect(jsonPath("$.projectedUnitPrice").value(3000))
+                .andExpect(jsonPath("$.projectedPaymentCost").value(6000));
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/{id}/quote 남은 개수를 넘는 get 요청 시 400 응답을 반환한다.")
+    void quoteFail() throws Exception {
+        Long copurchasingId = 1L;
+
+        when(priceQuoteService.quote(copurchasingId, 20)).thenThrow(CustomException.of(ErrorCode.EXCEEDS_REMAINING_NUMBER));
+
+        mockMvc.perform(get("/copurchasings/{copurchasingId}/quote", copurchasingId)
+                        .param("purchaseNumber", "20"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("/coupurchasing 유효한 delete 요청 시 204 응답을 반환한다.")
     void deleteSuccess() throws Exception {
@@ -113,7 +299,7 @@ class CopurchasingControllerTest {
         Long copurchasingId = 1L;
         Long userId = 2L;
 
-        doThrow(new CustomException(ErrorCode.NO_PERMISSION)).when(copurchasingService).delete(anyLong(), anyLong());
+        doThrow(CustomException.of(ErrorCode.NO_PERMISSION)).when(copurchasingService).delete(anyLong(), anyLong());
 
         mockMvc.perform(delete("/copurchasings/{copurchasingId}", copurchasingId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -194,7 +380,7 @@ class CopurchasingControllerTest {
                 .build();
 
         // 서비스 계층 모킹 설정
-        doThrow(new CustomException(ErrorCode.NO_PERMISSION)).when(copurchasingService).participationDelete(any(ParticipationDeleteRequest.class));
+        doThrow(CustomException.of(ErrorCode.NO_PERMISSION)).when(copurchasingService).participationDelete(any(ParticipationDeleteRequest.class));
 
         mockMvc.perform(delete("/copurchasings/participate")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -203,4 +389,46 @@ class CopurchasingControllerTest {
 
         verify(copurchasingService).participationDelete(any(ParticipationDeleteRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("/coupurchasing/participate/queue 유효한 post 요청 시 202 응답과 티켓 위치를 반환한다.")
+    void participateQueuedSuccess() throws Exception {
+        ParticipationCreateRequest validRequest = ParticipationCreateRequest.builder()
+                .copurchasingId(1L)
+                .purchaseNumber(1)
+                .participantId(2L)
+                .build();
+        ParticipationTicket ticket = new ParticipationTicket(validRequest);
+
+        // 모킹된 서비스 동작 정의
+        when(participationQueueService.enqueue(any(ParticipationCreateRequest.class))).thenReturn(ticket);
+
+        // 요청 및 응답 검증
+        mockMvc.perform(post("/copurchasings/participate/queue")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/copurchasings/participate/queue/" + ticket.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("/coupurchasing/participate/queue/{ticketId} get 요청 시 처리 결과를 반환한다.")
+    void findTicketSuccess() throws Exception {
+        ParticipationTicket ticket = new ParticipationTicket(ParticipationCreateRequest.builder()
+                .copurchasingId(1L)
+                .purchaseNumber(1)
+                .participantId(2L)
+                .build());
+        ticket.succeed(3L);
+
+        // 모킹된 서비스 동작 정의
+        when(participationQueueService.findTicket(ticket.getId())).thenReturn(ticket);
+
+        // 요청 및 응답 검증
+        mockMvc.perform(get("/copurchasings/participate/queue/" + ticket.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.participationId").value(3));
+    }
+}
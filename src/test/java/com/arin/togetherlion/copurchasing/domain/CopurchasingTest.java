@@ -1,5 +1,7 @@
 package com.arin.togetherlion.copurchasing.domain;
 
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
 import com.arin.togetherlion.user.domain.User;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,7 +43,9 @@ class CopurchasingTest {
                         .tradeDate(LocalDateTime.now().plus(Period.ofDays(1)))
                         .writer(user)
                         .build())
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PRODUCT_NUMBER_RANGE);
     }
 
     @Test
@@ -63,6 +67,59 @@ class CopurchasingTest {
                         .tradeDate(wrongTradeDate)
                         .writer(user)
                         .build())
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TRADE_DATE);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("새 게시물에 참여를 추가하면 상품 구매 개수 합계와 참여자 수가 함께 갱신된다.")
+    void participationCounters() throws Exception {
+        //given
+        final Copurchasing copurchasing = Copurchasing.builder().title("title")
+                .productTotalCost(new ProductTotalCost(1000))
+                .shippingCost(new ShippingCost(1000))
+                .productUrl("url")
+                .productMinNumber(5)
+                .productMaxNumber(10)
+                .deadlineDate(LocalDateTime.now().plus(Period.ofDays(1)))
+                .tradeDate(LocalDateTime.now().plus(Period.ofDays(2)))
+                .writer(user)
+                .build();
+        final Participation participation = new Participation(3, user, 1200);
+
+        //when
+        copurchasing.addParticipation(participation);
+
+        //then
+        Assertions.assertThat(copurchasing.getTotalProductNumber()).isEqualTo(3);
+        Assertions.assertThat(copurchasing.getParticipantCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 상품 개수가 모집되면 모집 완료 상태가 된다.")
+    void fullStatus() throws Exception {
+        //given
+        final Copurchasing copurchasing = Copurchasing.builder().title("title")
+                .productTotalCost(new ProductTotalCost(1000))
+                .shippingCost(new ShippingCost(1000))
+                .productUrl("url")
+                .productMinNumber(2)
+                .productMaxNumber(3)
+                .deadlineDate(LocalDateTime.now().plus(Period.ofDays(1)))
+                .tradeDate(LocalDateTime.now().plus(Period.ofDays(2)))
+                .writer(user)
+                .build();
+        final Participation participation = new Participation(3, user, 1200);
+
+        //when
+        copurchasing.addParticipation(participation);
+
+        //then
+        Assertions.assertThat(copurchasing.getStatus()).isEqualTo(CopurchasingStatus.FULL);
+        Assertions.assertThatThrownBy(() -> copurchasing.addParticipation(new Participation(1, user, 1200)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.RECRUITMENT_FULL);
+    }
+}
@@ -0,0 +1,60 @@
+package com.arin.togetherlion.copurchasing.domain;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceCalculatorTest {
+
+    @Test
+    @DisplayName("나누어떨어지지 않는 금액은 1원 단위로 올린다.")
+    void unitPriceRoundsUp() {
+        // given
+        int totalCost = 10000;
+
+        // when
+        final int unitPrice = PriceCalculator.unitPrice(totalCost, 3);
+
+        // then
+        Assertions.assertThat(unitPrice).isEqualTo(3334);
+        Assertions.assertThat(PriceCalculator.unitPrice(totalCost, 4)).isEqualTo(2500);
+    }
+
+    @Test
+    @DisplayName("int 범위의 큰 금액도 부동소수점 없이 올림 계산한다.")
+    void unitPriceWithLargeCost() {
+        // given
+        int totalCost = Integer.MAX_VALUE;
+
+        // when
+        final int unitPrice = PriceCalculator.unitPrice(totalCost, 2);
+
+        // then
+        Assertions.assertThat(unitPrice).isEqualTo(1073741824);
+    }
+
+    @Test
+    @DisplayName("예상 수량이 최소 상품 개수보다 적으면 최소 개수 기준 금액을 반환한다.")
+    void projectedUnitPriceBelowMinNumber() {
+        // given
+        int totalCost = 12000;
+        int productMinNumber = 4;
+
+        // when
+        // then
+        Assertions.assertThat(PriceCalculator.projectedUnitPrice(totalCost, productMinNumber, 2)).isEqualTo(3000);
+        Assertions.assertThat(PriceCalculator.projectedUnitPrice(totalCost, productMinNumber, 6)).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("결제 금액이 int 범위를 넘으면 예외가 발생한다.")
+    void paymentCostOverflow() {
+        // given
+        int unitPrice = Integer.MAX_VALUE;
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> PriceCalculator.paymentCost(unitPrice, 2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -1,5 +1,7 @@
 package com.arin.togetherlion.copurchasing.domain;
 
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +18,8 @@ class ShippingCostTest {
         // when
         // then
         assertThatThrownBy(() -> new ShippingCost(wrongValue))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NEGATIVE_COST);
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.arin.togetherlion.copurchasing.scheduler;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing;
+import com.arin.togetherlion.copurchasing.service.CopurchasingDeadlineService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CopurchasingDeadlineSchedulerTest {
+
+    private CopurchasingDeadlineService copurchasingDeadlineService;
+    private CopurchasingDeadlineScheduler copurchasingDeadlineScheduler;
+
+    @BeforeEach
+    void setUp() {
+        copurchasingDeadlineService = mock(CopurchasingDeadlineService.class);
+        copurchasingDeadlineScheduler = new CopurchasingDeadlineScheduler(copurchasingDeadlineService);
+        ReflectionTestUtils.setField(copurchasingDeadlineScheduler, "batchSize", 3);
+    }
+
+    @Test
+    @DisplayName("마감 처리에 실패한 게시물은 건너뛰고 같은 배치와 다음 배치의 게시물은 계속 전환한다.")
+    void skipFailedCopurchasing() {
+        // given
+        final LocalDateTime deadlineDate = LocalDateTime.now().minusDays(1);
+        when(copurchasingDeadlineService.findExpired(any(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(expired(1L, deadlineDate), expired(2L, deadlineDate), expired(3L, deadlineDate)));
+        when(copurchasingDeadlineService.findExpired(any(), eq(deadlineDate), eq(3L), anyInt()))
+                .thenReturn(List.of(expired(4L, deadlineDate)));
+        when(copurchasingDeadlineService.close(List.of(1L, 2L, 3L))).thenThrow(CustomException.of(ErrorCode.USER_NOT_FOUND));
+        when(copurchasingDeadlineService.close(List.of(2L))).thenThrow(CustomException.of(ErrorCode.USER_NOT_FOUND));
+
+        // when
+        copurchasingDeadlineScheduler.closeExpired();
+
+        // then
+        verify(copurchasingDeadlineService).close(List.of(1L));
+        verify(copurchasingDeadlineService).close(List.of(3L));
+        verify(copurchasingDeadlineService).close(List.of(4L));
+    }
+
+    private ExpiredCopurchasing expired(Long id, LocalDateTime deadlineDate) {
+        return new ExpiredCopurchasing(id, deadlineDate);
+    }
+}
@@ -0,0 +1,198 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import com.arin.togetherlion.point.domain.PointHistoryType;
+import com.arin.togetherlion.point.repository.PointHistoryRepository;
+import com.arin.togetherlion.point.service.PointService;
+import com.arin.togetherlion.user.UserService;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+
+@DataJpaTest
+class CopurchasingDeadlineServiceTest {
+
+    @Autowired
+    private CopurchasingRepository copurchasingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ParticipationRepository participationRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CopurchasingService copurchasingService;
+    private CopurchasingDeadlineService copurchasingDeadlineService;
+    private SimpleMeterRegistry meterRegistry;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        final PointService pointService = new PointService(userRepository, pointHistoryRepository);
+        copurchasingService = new CopurchasingService(copurchasingRepository, userRepository, participationRepository, new UserService(), pointService,
+                new CopurchasingSnapshotService(copurchasingRepository), eventPublisher);
+        meterRegistry = new SimpleMeterRegistry();
+        copurchasingDeadlineService = new CopurchasingDeadlineService(copurchasingRepository, participationRepository, pointService, meterRegistry, eventPublisher);
+
+        writer = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        writer.getPoint().add(100000);
+        userRepository.save(writer);
+    }
+
+    @Test
+    @DisplayName("마감일이 지난 게시물은 최소 상품 개수 충족 여부에 따라 시작 또는 실패로 전환된다.")
+    void closeExpired() throws Exception {
+        //given
+        final Long startedId = copurchasingService.create(createRequest(1));
+        final int pointBeforeFailed = currentPoint();
+        final Long failedId = copurchasingService.create(createRequest(3));
+        final int failedPayment = pointBeforeFailed - currentPoint();
+
+        //when
+        final int closed = closeExpired(LocalDateTime.now().plusDays(6), 100);
+
+        //then
+        Assertions.assertThat(closed).isEqualTo(2);
+        Assertions.assertThat(copurchasingRepository.findById(startedId).get().getStatus()).isEqualTo(CopurchasingStatus.STARTED);
+        Assertions.assertThat(copurchasingRepository.findById(failedId).get().getStatus()).isEqualTo(CopurchasingStatus.FAILED);
+        Assertions.assertThat(currentPoint()).isEqualTo(pointBeforeFailed);
+        Assertions.assertThat(pointHistoryRepository.findByUserId(writer.getId()))
+                .filteredOn("type", PointHistoryType.CHARGE)
+                .extracting("amount")
+                .containsExactly(failedPayment);
+        Assertions.assertThat(meterRegistry.get("copurchasing.participants").tag("status", "STARTED").summary().count())
+                .isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("copurchasing.participants").tag("status", "FAILED").summary().totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마감일이 지나지 않은 게시물은 전환되지 않는다.")
+    void notExpired() throws Exception {
+        //given
+        final Long copurchasingId = copurchasingService.create(createRequest(1));
+
+        //when
+        final int closed = closeExpired(LocalDateTime.now(), 100);
+
+        //then
+        Assertions.assertThat(closed).isZero();
+        Assertions.assertThat(copurchasingRepository.findById(copurchasingId).get().getStatus()).isEqualTo(CopurchasingStatus.RECRUITING);
+    }
+
+    @Test
+    @DisplayName("한 번에 배치 크기만큼만 전환하며, 이미 전환된 게시물은 다시 처리하지 않는다.")
+    void closeExpiredInBatches() throws Exception {
+        //given
+        final int pointBeforeCreate = currentPoint();
+        for (int i = 0; i < 3; i++)
+            copurchasingService.create(createRequest(3));
+        final LocalDateTime now = LocalDateTime.now().plusDays(6);
+
+        //when
+        final int first = closeExpired(now, 2);
+        final int second = closeExpired(now, 2);
+        final int third = closeExpired(now, 2);
+
+        //then
+        Assertions.assertThat(first).isEqualTo(2);
+        Assertions.assertThat(second).isEqualTo(1);
+        Assertions.assertThat(third).isZero();
+        Assertions.assertThat(currentPoint()).isEqualTo(pointBeforeCreate);
+    }
+
+    @Test
+    @DisplayName("목록을 읽은 뒤 삭제된 게시물은 마감 처리에서 빠져 되살아나거나 다시 환급되지 않는다.")
+    void closeSkipsDeleted() throws Exception {
+        //given
+        final Long copurchasingId = copurchasingService.create(createRequest(3));
+        final List<Long> expiredIds = expiredIds(LocalDateTime.now().plusDays(6), 100);
+        copurchasingService.delete(writer.getId(), copurchasingId);
+        final int pointAfterDelete = currentPoint();
+
+        //when
+        final int closed = copurchasingDeadlineService.close(expiredIds);
+
+        //then
+        Assertions.assertThat(closed).isZero();
+        Assertions.assertThat(copurchasingRepository.findById(copurchasingId)).isEmpty();
+        Assertions.assertThat(currentPoint()).isEqualTo(pointAfterDelete);
+        Assertions.assertThat(pointHistoryRepository.findByUserId(writer.getId()))
+                .filteredOn("type", PointHistoryType.CHARGE)
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("마감 대상은 (마감일, id) 커서 다음부터 읽는다.")
+    void findExpiredAfterCursor() throws Exception {
+        //given
+        final Long firstId = copurchasingService.create(createRequest(1));
+        final Long secondId = copurchasingService.create(createRequest(1));
+        final LocalDateTime now = LocalDateTime.now().plusDays(6);
+        final ExpiredCopurchasing first = copurchasingDeadlineService.findExpired(now, null, null, 1).get(0);
+
+        //when
+        final List<ExpiredCopurchasing> next = copurchasingDeadlineService.findExpired(now, first.getDeadlineDate(), first.getId(), 1);
+
+        //then
+        Assertions.assertThat(first.getId()).isEqualTo(firstId);
+        Assertions.assertThat(next).extracting(ExpiredCopurchasing::getId).containsExactly(secondId);
+    }
+
+    private int closeExpired(LocalDateTime now, int batchSize) {
+        return copurchasingDeadlineService.close(expiredIds(now, batchSize));
+    }
+
+    private List<Long> expiredIds(LocalDateTime now, int batchSize) {
+        return copurchasingDeadlineService.findExpired(now, null, null, batchSize).stream()
+                .map(ExpiredCopurchasing::getId)
+                .toList();
+    }
+
+    private CopurchasingCreateRequest createRequest(int productMinNumber) {
+        return CopurchasingCreateRequest.builder()
+                .title("title")
+                .productMinNumber(productMinNumber)
+                .productTotalCost(10000)
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(5))
+                .productMaxNumber(5)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(3000)
+                .writerId(writer.getId())
+                .purchaseNumber(1)
+                .build();
+    }
+
+    private int currentPoint() {
+        entityManager.flush();
+        entityManager.clear();
+        return userRepository.findById(writer.getId()).get().getPoint().getAmount();
+    }
+}
@@ -0,0 +1,195 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingFilter;
+import com.arin.togetherlion.copurchasing.domain.Participation;
+import com.arin.togetherlion.copurchasing.domain.ProductTotalCost;
+import com.arin.togetherlion.copurchasing.domain.ShippingCost;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingPageResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSummaryResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingDetailResponse;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import com.arin.togetherlion.point.repository.PointHistoryRepository;
+import com.arin.togetherlion.point.service.PointService;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import org.springframework.context.ApplicationEventPublisher;
+
+@DataJpaTest
+class CopurchasingQueryServiceTest {
+
+    @Autowired
+    private CopurchasingRepository copurchasingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ParticipationRepository participationRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CopurchasingQueryService copurchasingQueryService;
+    private CopurchasingDeadlineService copurchasingDeadlineService;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        copurchasingQueryService = new CopurchasingQueryService(copurchasingRepository, participationRepository);
+        copurchasingDeadlineService = new CopurchasingDeadlineService(copurchasingRepository, participationRepository,
+                new PointService(userRepository, pointHistoryRepository), new SimpleMeterRegistry(), eventPublisher);
+
+        writer = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        userRepository.save(writer);
+    }
+
+    @Test
+    @DisplayName("모집 중인 공동구매를 마감일 순으로 커서 이후부터 조회할 수 있다.")
+    void findOpen() {
+        // given
+        final Copurchasing first = saveCopurchasing(LocalDateTime.now().plusDays(1), 0);
+        final Copurchasing second = saveCopurchasing(LocalDateTime.now().plusDays(2), 0);
+        final Copurchasing third = saveCopurchasing(LocalDateTime.now().plusDays(3), 0);
+
+        // when
+        final CopurchasingPageResponse firstPage = copurchasingQueryService.findAll(CopurchasingFilter.OPEN, null, null, 2);
+        final CopurchasingPageResponse secondPage = copurchasingQueryService.findAll(CopurchasingFilter.OPEN,
+                firstPage.getNextCursorDeadlineDate(), firstPage.getNextCursorId(), 2);
+
+        // then
+        Assertions.assertThat(firstPage.getCopurchasings())
+                .extracting(CopurchasingSummaryResponse::getId)
+                .containsExactly(first.getId(), second.getId());
+        Assertions.assertThat(firstPage.isHasNext()).isTrue();
+        Assertions.assertThat(secondPage.getCopurchasings())
+                .extracting(CopurchasingSummaryResponse::getId)
+                .containsExactly(third.getId());
+        Assertions.assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마감 처리된 공동구매는 최소 상품 개수 달성 여부에 따라 시작 또는 만료로 조회된다.")
+    void findStartedAndExpired() throws InterruptedException {
+        // given
+        final Copurchasing started = saveCopurchasing(LocalDateTime.now().plusSeconds(1), 2);
+        final Copurchasing expired = saveCopurchasing(LocalDateTime.now().plusSeconds(1), 1);
+        saveCopurchasing(LocalDateTime.now().plusDays(1), 0);
+
+        Thread.sleep(1000);
+        copurchasingDeadlineService.close(copurchasingDeadlineService.findExpired(LocalDateTime.now(), null, null, 100).stream()
+                .map(ExpiredCopurchasing::getId)
+                .toList());
+
+        // when
+        final CopurchasingPageResponse startedPage = copurchasingQueryService.findAll(CopurchasingFilter.STARTED, null, null, 10);
+        final CopurchasingPageResponse expiredPage = copurchasingQueryService.findAll(CopurchasingFilter.EXPIRED, null, null, 10);
+
+        // then
+        Assertions.assertThat(startedPage.getCopurchasings())
+                .extracting(CopurchasingSummaryResponse::getId)
+                .containsExactly(started.getId());
+        Assertions.assertThat(expiredPage.getCopurchasings())
+                .extracting(CopurchasingSummaryResponse::getId)
+                .containsExactly(expired.getId());
+    }
+
+    @Test
+    @DisplayName("모집 중 목록에는 모집 완료된 공동구매가 제외되고, 모집 완료 목록으로 따로 조회된다.")
+    void findFull() {
+        // given
+        final Copurchasing recruiting = saveCopurchasing(LocalDateTime.now().plusDays(1), 1);
+        final Copurchasing full = saveCopurchasing(LocalDateTime.now().plusDays(1), 5);
+
+        // when
+        final CopurchasingPageResponse openPage = copurchasingQueryService.findAll(CopurchasingFilter.OPEN, null, null, 10);
+        final CopurchasingPageResponse fullPage = copurchasingQueryService.findAll(CopurchasingFilter.FULL, null, null, 10);
+
+        // then
+        Assertions.assertThat(openPage.getCopurchasings())
+                .extracting(CopurchasingSummaryResponse::getId)
+                .containsExactly(recruiting.getId());
+        Assertions.assertThat(fullPage.getCopurchasings())
+                .extracting(CopurchasingSummaryResponse::getId)
+                .containsExactly(full.getId());
+    }
+
+    @Test
+    @DisplayName("공동구매 상세 조회 시 현재 단가, 남은 수량, 참여자 닉네임을 함께 반환한다.")
+    void findById() {
+        // given
+        final Copurchasing copurchasing = saveCopurchasing(LocalDateTime.now().plusDays(1), 1);
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("participant")
+                .build();
+        userRepository.save(participant);
+        copurchasing.addParticipation(new Participation(2, participant, 0));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final CopurchasingDetailResponse response = copurchasingQueryService.findById(copurchasing.getId());
+
+        // then
+        Assertions.assertThat(response.getWriterNickname()).isEqualTo("nickname");
+        Assertions.assertThat(response.getParticipantNicknames()).containsExactly("nickname", "participant");
+        Assertions.assertThat(response.getTotalProductNumber()).isEqualTo(3);
+        Assertions.assertThat(response.getRemainingProductNumber()).isEqualTo(2);
+        Assertions.assertThat(response.getUnitPrice()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 허용 범위를 벗어나면 예외가 발생한다.")
+    void invalidPageSize() {
+        Assertions.assertThatThrownBy(() -> copurchasingQueryService.findAll(CopurchasingFilter.OPEN, null, null, 0))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PAGE_SIZE);
+        Assertions.assertThatThrownBy(() -> copurchasingQueryService.findAll(CopurchasingFilter.OPEN, null, null, 101))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PAGE_SIZE);
+    }
+
+    private Copurchasing saveCopurchasing(LocalDateTime deadlineDate, int purchaseNumber) {
+        final Copurchasing copurchasing = Copurchasing.builder()
+                .title("title")
+                .productMinNumber(2)
+                .productTotalCost(new ProductTotalCost(1000))
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(deadlineDate)
+                .productMaxNumber(5)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(new ShippingCost(3000))
+                .writer(writer)
+                .purchaseNumber(purchaseNumber)
+                .build();
+        if (purchaseNumber > 0)
+            copurchasing.addParticipation(new Participation(purchaseNumber, writer, 0));
+        return copurchasingRepository.save(copurchasing);
+    }
+}
@@ -0,0 +1,229 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingFilter;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchDocument;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResponse;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSearchResult;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.event.CopurchasingDeletedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.ParticipationRemovedEvent;
+import com.arin.togetherlion.copurchasing.domain.event.PointsRefundedEvent;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingSearchIndex;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 색인은 커밋 후 이벤트로 기록된 게시물을 반영하므로 실제 트랜잭션이 커밋되는 전체 컨텍스트로 테스트하고, 검색 전에 바로 반영한다.
+@SpringBootTest
+class CopurchasingSearchServiceTest {
+
+    @Autowired
+    private CopurchasingService copurchasingService;
+    @Autowired
+    private CopurchasingSearchService copurchasingSearchService;
+    @Autowired
+    private UserRepository userRepository;
+
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = saveUser("writer" + System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 제목도 형태소 단위로 검색된다.")
+    void searchKorean() {
+        // given
+        final Long copurchasingId = create("캠핑용품을 같이 사요", "주말에 쓸 물건입니다.", 5, 3);
+
+        // when
+        final CopurchasingSearchResponse response = search("캠핑용품", null);
+
+        // then
+        Assertions.assertThat(ids(response)).contains(copurchasingId);
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 게시물이 본문에만 있는 게시물보다 먼저 조회된다.")
+    void titleRankedFirst() {
+        // given
+        final Long contentMatch = create("같이 나눠 사요", "원터치 텐트를 나눠 살 분 구합니다.", 5, 3);
+        final Long titleMatch = create("원터치 텐트 공동구매", "주말에 쓸 물건입니다.", 5, 3);
+
+        // when
+        final List<Long> ids = ids(search("텐트", null));
+
+        // then
+        Assertions.assertThat(ids).contains(titleMatch, contentMatch);
+        Assertions.assertThat(ids.indexOf(titleMatch)).isLessThan(ids.indexOf(contentMatch));
+    }
+
+    @Test
+    @DisplayName("참여로 모집이 마감되면 모집 중 검색에서 빠지고 마감 검색에 조회된다.")
+    void filterByStatus() {
+        // given
+        final Long copurchasingId = create("등산 스틱 공동구매", "content", 2, 3);
+        final User participant = saveUser("participant" + System.nanoTime());
+
+        // when
+        copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(1)
+                .build());
+
+        // then
+        Assertions.assertThat(ids(search("등산 스틱", CopurchasingFilter.OPEN))).doesNotContain(copurchasingId);
+        Assertions.assertThat(ids(search("등산 스틱", CopurchasingFilter.FULL))).contains(copurchasingId);
+    }
+
+    @Test
+    @DisplayName("마감일 범위 밖의 게시물은 조회되지 않는다.")
+    void filterByDeadline() {
+        // given
+        final Long copurchasingId = create("전기 오븐 공동구매", "content", 5, 3);
+
+        // when
+        copurchasingSearchService.flush(SYNC_BATCH_SIZE);
+        final CopurchasingSearchResponse inRange = copurchasingSearchService.search("오븐", null,
+                LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(4), 0, 100);
+        final CopurchasingSearchResponse outOfRange = copurchasingSearchService.search("오븐", null,
+                LocalDateTime.now().plusDays(4), null, 0, 100);
+
+        // then
+        Assertions.assertThat(ids(inRange)).contains(copurchasingId);
+        Assertions.assertThat(ids(outOfRange)).doesNotContain(copurchasingId);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물은 검색되지 않는다.")
+    void deleted() {
+        // given
+        final Long copurchasingId = create("캠핑 의자 공동구매", "content", 5, 3);
+
+        // when
+        copurchasingService.delete(writer.getId(), copurchasingId);
+
+        // then
+        Assertions.assertThat(ids(search("의자", null))).doesNotContain(copurchasingId);
+    }
+
+    @Test
+    @DisplayName("게시물을 다시 읽은 뒤 커밋된 삭제는 다음 반영에서 색인에서 지워진다.")
+    void deletedAfterRead() {
+        // given
+        final CopurchasingSearchIndex index = new CopurchasingSearchIndex();
+        final CopurchasingRepository repository = Mockito.mock(CopurchasingRepository.class);
+        final CopurchasingSearchService service = new CopurchasingSearchService(repository, index);
+        final CopurchasingSearchDocument document = new CopurchasingSearchDocument(1L, "캠핑 테이블 공동구매", "content",
+                CopurchasingStatus.RECRUITING, LocalDateTime.now().plusDays(3));
+        service.sync(new ParticipationRemovedEvent(1L, 2L, 1));
+        Mockito.when(repository.findSearchDocumentsByIdIn(Mockito.anyCollection()))
+                .thenAnswer(invocation -> {
+                    service.sync(new CopurchasingDeletedEvent(1L));
+                    return List.of(document);
+                })
+                .thenReturn(List.of());
+
+        // when
+        service.flush(SYNC_BATCH_SIZE);
+        service.flush(SYNC_BATCH_SIZE);
+
+        // then
+        Assertions.assertThat(index.findStatuses(List.of(1L))).isEmpty();
+        Assertions.assertThat(service.flush(SYNC_BATCH_SIZE)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 이벤트는 한 번의 조회로 합쳐지고 상태가 바뀌지 않은 게시물은 색인을 다시 쓰지 않는다.")
+    void skipUnchanged() {
+        // given
+        final CopurchasingSearchIndex index = Mockito.spy(new CopurchasingSearchIndex());
+        final CopurchasingRepository repository = Mockito.mock(CopurchasingRepository.class);
+        final CopurchasingSearchService service = new CopurchasingSearchService(repository, index);
+        final CopurchasingSearchDocument document = new CopurchasingSearchDocument(1L, "캠핑 테이블 공동구매", "content",
+                CopurchasingStatus.RECRUITING, LocalDateTime.now().plusDays(3));
+        Mockito.when(repository.findSearchDocumentsByIdIn(Mockito.anyCollection())).thenReturn(List.of(document));
+        index.index(document);
+
+        // when
+        service.sync(new ParticipationRemovedEvent(1L, 2L, 1));
+        service.sync(new ParticipationRemovedEvent(1L, 3L, 1));
+        service.sync(new PointsRefundedEvent(1L, Map.of(3L, 1000)));
+        service.flush(SYNC_BATCH_SIZE);
+
+        // then
+        Mockito.verify(repository, Mockito.times(1)).findSearchDocumentsByIdIn(List.of(1L));
+        Mockito.verify(index, Mockito.times(1)).index(document);
+    }
+
+    @Test
+    @DisplayName("검색어가 비어 있으면 예외가 발생한다.")
+    void blankKeyword() {
+        // given
+        String keyword = " ";
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> search(keyword, null))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_SEARCH_KEYWORD);
+    }
+
+    private Long create(String title, String content, int productMaxNumber, int deadlineDays) {
+        return copurchasingService.create(CopurchasingCreateRequest.builder()
+                .title(title)
+                .productMinNumber(1)
+                .productTotalCost(10000)
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(deadlineDays))
+                .productMaxNumber(productMaxNumber)
+                .content(content)
+                .productUrl("url")
+                .shippingCost(2000)
+                .writerId(writer.getId())
+                .purchaseNumber(1)
+                .build());
+    }
+
+    private CopurchasingSearchResponse search(String keyword, CopurchasingFilter filter) {
+        copurchasingSearchService.flush(SYNC_BATCH_SIZE);
+        return copurchasingSearchService.search(keyword, filter, null, null, 0, 100);
+    }
+
+    private List<Long> ids(CopurchasingSearchResponse response) {
+        return response.getCopurchasings().stream()
+                .map(CopurchasingSearchResult::getId)
+                .toList();
+    }
+
+    private User saveUser(String nickname) {
+        final User user = User.builder()
+                .email(nickname)
+                .password("password")
+                .nickname(nickname)
+                .build();
+        user.getPoint().add(100000);
+        return userRepository.save(user);
+    }
+}
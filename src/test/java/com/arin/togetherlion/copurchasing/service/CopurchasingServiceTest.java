@@ -2,7 +2,9 @@ package com.arin.togetherlion.copurchasing.service;
 
 import com.arin.togetherlion.common.CustomException;
 import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.common.SqlStatementBudget;
 import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
 import com.arin.togetherlion.copurchasing.domain.Participation;
 import com.arin.togetherlion.copurchasing.domain.ProductTotalCost;
 import com.arin.togetherlion.copurchasing.domain.ShippingCost;
@@ -11,6 +13,8 @@ import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
 import com.arin.togetherlion.copurchasing.domain.dto.ParticipationDeleteRequest;
 import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
 import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import com.arin.togetherlion.point.repository.PointHistoryRepository;
+import com.arin.togetherlion.point.service.PointService;
 import com.arin.togetherlion.user.UserService;
 import com.arin.togetherlion.user.domain.User;
 import com.arin.togetherlion.user.repository.UserRepository;
@@ -18,22 +22,45 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import org.springframework.context.ApplicationEventPublisher;
 
 @DataJpaTest
 class CopurchasingServiceTest {
 
+    private static final int BUDGET_PARTICIPATION_CREATE = 8;
+    private static final int BUDGET_PARTICIPATION_DELETE = 7;
+    private static final int BUDGET_DELETE = 7;
+    private static final Set<CopurchasingStatus> OPEN_STATUSES = EnumSet.of(CopurchasingStatus.RECRUITING, CopurchasingStatus.FULL);
+
     @Autowired
     private CopurchasingRepository copurchasingRepository;
     @Autowired
     private UserRepository userRepository;
     @Autowired
     private ParticipationRepository participationRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     private UserService userService;
+    private PointService pointService;
     private CopurchasingService copurchasingService;
 
     private User writer;
@@ -42,7 +69,9 @@ class CopurchasingServiceTest {
     @BeforeEach
     void setUp() {
         userService = new UserService();
-        copurchasingService = new CopurchasingService(copurchasingRepository, userRepository, participationRepository, userService);
+        pointService = new PointService(userRepository, pointHistoryRepository);
+        copurchasingService = new CopurchasingService(copurchasingRepository, userRepository, participationRepository, userService, pointService,
+                new CopurchasingSnapshotService(copurchasingRepository), eventPublisher);
 
         writer = User.builder()
                 .email("email")
@@ -91,7 +120,9 @@ class CopurchasingServiceTest {
         //when
         //then
         Assertions.assertThatThrownBy(() -> copurchasingService.create(request))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.USER_NOT_FOUND);
     }
 
     @Test
@@ -120,6 +151,39 @@ class CopurchasingServiceTest {
         Assertions.assertThat(copurchasingRepository.existsById(copurchasingId)).isTrue();
     }
 
+    @Test
+    @DisplayName("사용자는 여러 공동구매 게시물을 한 번에 작성할 수 있다.")
+    void createAll() {
+        // given
+        final Long writerId = userRepository.save(writer).getId();
+        final List<CopurchasingCreateRequest> requests = IntStream.range(0, 3)
+                .mapToObj(i -> CopurchasingCreateRequest.builder()
+                        .title("title" + i)
+                        .productMinNumber(2)
+                        .productTotalCost(10000)
+                        .purchasePhotoUrl("url")
+                        .tradeDate(LocalDateTime.now().plusDays(10))
+                        .deadlineDate(LocalDateTime.now().plusDays(5))
+                        .productMaxNumber(5)
+                        .content("content")
+                        .productUrl("url")
+                        .shippingCost(2000)
+                        .writerId(writerId)
+                        .purchaseNumber(1)
+                        .build())
+                .toList();
+
+        // when
+        final List<Long> copurchasingIds = copurchasingService.createAll(requests);
+
+        // then
+        Assertions.assertThat(copurchasingRepository.findAllById(copurchasingIds))
+                .hasSize(3)
+                .allSatisfy(copurchasing -> Assertions.assertThat(copurchasing.getTotalProductNumber()).isEqualTo(1));
+        Assertions.assertThat(participationRepository.count()).isEqualTo(3);
+        Assertions.assertThat(currentPoint(writer)).isEqualTo(100000 - 6000 * 3);
+    }
+
     @Test
     @DisplayName("작성자는 공동구매 게시물을 삭제할 수 있다.")
     void delete() {
@@ -132,6 +196,11 @@ class CopurchasingServiceTest {
 
         // then
         Assertions.assertThat(copurchasingRepository.existsById(testCopurchasing.getId())).isFalse();
+        Assertions.assertThat(entityManager.getEntityManager()
+                        .createNativeQuery("SELECT status FROM copurchasing WHERE id = :id")
+                        .setParameter("id", copurchasingId)
+                        .getSingleResult())
+                .isEqualTo("DELETED");
         Assertions.assertThat(writer.getPoint().getAmount()).isEqualTo(100000);
     }
 
@@ -170,13 +239,40 @@ class CopurchasingServiceTest {
         participationRepository.save(participation);
 
         Assertions.assertThat(user.getPoint().getAmount()).isEqualTo(3666);
+        // 삭제 요청은 새 영속성 컨텍스트에서 게시물을 읽으므로 준비한 변경을 먼저 반영한다.
+        entityManager.flush();
 
         // when
         copurchasingService.delete(writerId, notStartedCopurchasingId);
 
         // then
         Assertions.assertThat(copurchasingRepository.existsById(notStartedCopurchasingId)).isFalse();
-        Assertions.assertThat(user.getPoint().getAmount()).isEqualTo(5000);
+        Assertions.assertThat(currentPoint(user)).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("게시물을 읽은 뒤 마감이 먼저 커밋되면 삭제는 충돌로 실패하고 참여자에게 다시 환급하지 않는다.")
+    void deleteConflictsWithClose() {
+        // given
+        final Long userId = userRepository.save(writer).getId();
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+        final Participation participation = new Participation(1, writer, 4000);
+        testCopurchasing.addParticipation(participation);
+        participationRepository.save(participation);
+        final int pointBeforeDelete = currentPoint(writer);
+
+        final CopurchasingService racingService = serviceWith(closedBefore(copurchasingId, (racing, id) ->
+                Mockito.doAnswer(invocation -> {
+                    copurchasingRepository.updateStatus(List.of(id), OPEN_STATUSES, CopurchasingStatus.FAILED);
+                    return copurchasingRepository.softDeleteById(id, invocation.getArgument(1));
+                }).when(racing).softDeleteById(Mockito.eq(id), Mockito.anyLong())));
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> racingService.delete(userId, copurchasingId))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        Assertions.assertThat(copurchasingRepository.findById(copurchasingId).get().getStatus()).isEqualTo(CopurchasingStatus.FAILED);
+        Assertions.assertThat(currentPoint(writer)).isEqualTo(pointBeforeDelete);
     }
 
     @Test
@@ -238,7 +334,9 @@ class CopurchasingServiceTest {
         // when
         // then
         Assertions.assertThatThrownBy(() -> copurchasingService.delete(writerId, startedCopurchasingId))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ALREADY_STARTED_DELETE);
     }
 
     @Test
@@ -281,7 +379,7 @@ class CopurchasingServiceTest {
 
         // then
         Assertions.assertThat(participationRepository.existsById(participateId)).isTrue();
-        final int userPointAmount = user.getPoint().getAmount();
+        final int userPointAmount = currentPoint(user);
         final int paymentPointAmount = participationRepository.findById(participateId).get().getPaymentPoint().getAmount();
         Assertions.assertThat(userPointAmount).isEqualTo(5998);
         Assertions.assertThat(paymentPointAmount).isEqualTo(4002);
@@ -311,6 +409,136 @@ class CopurchasingServiceTest {
                 .isEqualTo(ErrorCode.CANT_JOIN);
     }
 
+    @Test
+    @DisplayName("이미 참여한 사용자가 다시 참여할 시 예외가 발생한다.")
+    void duplicatedParticipationCreate() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        final Long participantId = userRepository.save(participant).getId();
+        participant.getPoint().add(10000);
+
+        final ParticipationCreateRequest request = ParticipationCreateRequest.builder()
+                .participantId(participantId)
+                .purchaseNumber(1)
+                .copurchasingId(copurchasingId)
+                .build();
+        copurchasingService.participationCreate(request);
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> copurchasingService.participationCreate(request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CANT_JOIN);
+    }
+
+    @Test
+    @DisplayName("중복 참여 확인을 통과한 동시 참여는 유니크 제약 위반으로 걸러져 참여 불가 예외가 발생한다.")
+    void duplicatedParticipationCreateByUniqueKey() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        final Long participantId = userRepository.save(participant).getId();
+        participant.getPoint().add(10000);
+
+        final ParticipationCreateRequest request = ParticipationCreateRequest.builder()
+                .participantId(participantId)
+                .purchaseNumber(1)
+                .copurchasingId(copurchasingId)
+                .build();
+        copurchasingService.participationCreate(request);
+
+        // 다른 트랜잭션의 참여가 아직 보이지 않는 상황을 만든다.
+        final ParticipationRepository racingRepository = Mockito.mock(ParticipationRepository.class,
+                AdditionalAnswers.delegatesTo(participationRepository));
+        Mockito.doReturn(false).when(racingRepository).existsByCopurchasingIdAndParticipantId(copurchasingId, participantId);
+        final CopurchasingService racingService = new CopurchasingService(copurchasingRepository, userRepository, racingRepository,
+                userService, pointService, new CopurchasingSnapshotService(copurchasingRepository), eventPublisher);
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> racingService.participationCreate(request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CANT_JOIN);
+    }
+
+    @Test
+    @DisplayName("참여 저장 중 중복 참여가 아닌 제약 위반이 발생하면 참여 불가로 바꾸지 않고 그대로 던진다.")
+    void participationCreateWithOtherConstraintViolation() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+        final Long removedUserId = Long.MAX_VALUE;
+
+        // 존재 확인 이후 사용자가 동시에 삭제된 상황을 만든다.
+        final UserRepository racingRepository = Mockito.mock(UserRepository.class, AdditionalAnswers.delegatesTo(userRepository));
+        Mockito.doReturn(true).when(racingRepository).existsById(removedUserId);
+        final CopurchasingService racingService = new CopurchasingService(copurchasingRepository, racingRepository, participationRepository,
+                userService, pointService, new CopurchasingSnapshotService(copurchasingRepository), eventPublisher);
+
+        final ParticipationCreateRequest request = ParticipationCreateRequest.builder()
+                .participantId(removedUserId)
+                .purchaseNumber(1)
+                .copurchasingId(copurchasingId)
+                .build();
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> racingService.participationCreate(request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("예약에 실패했지만 다시 읽은 게시물로는 참여할 수 있으면 동시 수정 예외가 발생한다.")
+    void participationCreateLosesReservationRace() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        final Long participantId = userRepository.save(participant).getId();
+        participant.getPoint().add(10000);
+
+        // 다른 요청이 남은 수량을 먼저 가져가 예약이 실패했지만, 이 트랜잭션이 읽는 게시물에는 아직 반영되지 않은 상황을 만든다.
+        final CopurchasingRepository racingRepository = Mockito.mock(CopurchasingRepository.class,
+                AdditionalAnswers.delegatesTo(copurchasingRepository));
+        Mockito.doReturn(0).when(racingRepository).reserve(Mockito.eq(copurchasingId), Mockito.anyInt(), Mockito.anyInt(), Mockito.any());
+        final CopurchasingService racingService = new CopurchasingService(racingRepository, userRepository, participationRepository,
+                userService, pointService, new CopurchasingSnapshotService(racingRepository), eventPublisher);
+
+        final ParticipationCreateRequest request = ParticipationCreateRequest.builder()
+                .participantId(participantId)
+                .purchaseNumber(1)
+                .copurchasingId(copurchasingId)
+                .build();
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> racingService.participationCreate(request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CONCURRENT_MODIFICATION);
+        Assertions.assertThat(participationRepository.existsByCopurchasingIdAndParticipantId(copurchasingId, participantId)).isFalse();
+    }
+
     @Test
     @DisplayName("모집 기한이 만료된 공동구매에 참여할 시 예외가 발생한다.")
     void startedParticipationCreateWithDeadline() throws InterruptedException {
@@ -352,9 +580,9 @@ class CopurchasingServiceTest {
         // when
         // then
         Assertions.assertThatThrownBy(() -> copurchasingService.participationCreate(request))
-                .isInstanceOf(IllegalArgumentException.class)
-                .extracting("message")
-                .isEqualTo("모집 기한이 만료된 공동구매는 참여할 수 없습니다.");
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.RECRUITMENT_EXPIRED);
     }
 
     @Test
@@ -398,9 +626,72 @@ class CopurchasingServiceTest {
         // when
         // then
         Assertions.assertThatThrownBy(() -> copurchasingService.participationCreate(request))
-                .isInstanceOf(IllegalArgumentException.class)
-                .extracting("message")
-                .isEqualTo("최대 상품 개수가 모집된 공동구매는 참여할 수 없습니다.");
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.RECRUITMENT_FULL);
+    }
+
+    @Test
+    @DisplayName("남은 상품 개수보다 많이 구매하려 할 시 예외가 발생하고 수량은 예약되지 않는다.")
+    void participationCreateOverRemaining() {
+        // given
+        userRepository.save(writer);
+        final Copurchasing copurchasing = copurchasingRepository.save(testCopurchasing);
+        copurchasing.addParticipation(participationRepository.save(new Participation(3, writer, 0)));
+        final Long copurchasingId = copurchasing.getId();
+
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        final Long participantId = userRepository.save(participant).getId();
+        participant.getPoint().add(10000);
+
+        final ParticipationCreateRequest request = ParticipationCreateRequest.builder()
+                .participantId(participantId)
+                .purchaseNumber(3)
+                .copurchasingId(copurchasingId)
+                .build();
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> copurchasingService.participationCreate(request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXCEEDS_REMAINING_NUMBER);
+        Assertions.assertThat(copurchasingRepository.findById(copurchasingId).get().getTotalProductNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("남은 상품 개수를 모두 예약하면 참여 수량이 반영되고 모집 완료 상태가 된다.")
+    void participationCreateUntilFull() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        final Long participantId = userRepository.save(participant).getId();
+        participant.getPoint().add(100000);
+
+        final ParticipationCreateRequest request = ParticipationCreateRequest.builder()
+                .participantId(participantId)
+                .purchaseNumber(5)
+                .copurchasingId(copurchasingId)
+                .build();
+
+        // when
+        copurchasingService.participationCreate(request);
+
+        // then
+        final Copurchasing reserved = copurchasingRepository.findById(copurchasingId).get();
+        Assertions.assertThat(reserved.getTotalProductNumber()).isEqualTo(5);
+        Assertions.assertThat(reserved.getParticipantCount()).isEqualTo(1);
+        Assertions.assertThat(reserved.getStatus()).isEqualTo(CopurchasingStatus.FULL);
     }
 
     @Test
@@ -432,7 +723,106 @@ class CopurchasingServiceTest {
 
         // then
         Assertions.assertThat(participationRepository.existsById(participationId)).isFalse();
-        Assertions.assertThat(participant.getPoint().getAmount()).isEqualTo(10000);
+        Assertions.assertThat(currentPoint(participant)).isEqualTo(10000);
+        final Copurchasing released = copurchasingRepository.findById(copurchasingId).get();
+        Assertions.assertThat(released.getTotalProductNumber()).isZero();
+        Assertions.assertThat(released.getParticipantCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모집 완료된 공동구매의 참여를 취소하면 수량이 차감되고 다시 모집 중 상태가 된다.")
+    void deleteParticipationReopensFull() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        final Long participantId = userRepository.save(participant).getId();
+        participant.getPoint().add(100000);
+
+        final Long participationId = copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .participantId(participantId)
+                .purchaseNumber(5)
+                .copurchasingId(copurchasingId)
+                .build());
+
+        // when
+        copurchasingService.participationDelete(new ParticipationDeleteRequest(participationId, participantId));
+
+        // then
+        final Copurchasing released = copurchasingRepository.findById(copurchasingId).get();
+        Assertions.assertThat(released.getTotalProductNumber()).isZero();
+        Assertions.assertThat(released.getParticipantCount()).isZero();
+        Assertions.assertThat(released.getStatus()).isEqualTo(CopurchasingStatus.RECRUITING);
+    }
+
+    @Test
+    @DisplayName("참여 취소를 검증한 뒤 마감이 먼저 커밋되면 수량을 돌려놓지 않고 충돌로 실패한다.")
+    void deleteParticipationConflictsWithClose() {
+        // given
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+
+        userRepository.save(writer);
+        final Long participantId = userRepository.save(participant).getId();
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+
+        final int paymentCost = testCopurchasing.getPaymentCost(1);
+        final Participation participation = new Participation(1, participant, paymentCost);
+        testCopurchasing.addParticipation(participation);
+        final Long participationId = participationRepository.save(participation).getId();
+        final int pointBeforeCancel = currentPoint(participant);
+
+        final CopurchasingService racingService = serviceWith(closedBefore(copurchasingId, (racing, id) ->
+                Mockito.doAnswer(invocation -> {
+                    copurchasingRepository.updateStatus(List.of(id), OPEN_STATUSES, CopurchasingStatus.FAILED);
+                    return copurchasingRepository.release(id, invocation.getArgument(1));
+                }).when(racing).release(Mockito.eq(id), Mockito.anyInt())));
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> racingService.participationDelete(new ParticipationDeleteRequest(participationId, participantId)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        final Copurchasing closed = copurchasingRepository.findById(copurchasingId).get();
+        Assertions.assertThat(closed.getTotalProductNumber()).isEqualTo(1);
+        Assertions.assertThat(participationRepository.existsById(participationId)).isTrue();
+        Assertions.assertThat(currentPoint(participant)).isEqualTo(pointBeforeCancel);
+    }
+
+    @Test
+    @DisplayName("참여를 읽은 뒤 게시물 삭제가 먼저 커밋되면 참여 취소는 게시물 없음 예외가 발생한다.")
+    void deleteParticipationOfDeletedCopurchasing() {
+        // given
+        final User participant = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+
+        userRepository.save(writer);
+        final Long participantId = userRepository.save(participant).getId();
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+
+        final Participation participation = new Participation(1, participant, testCopurchasing.getPaymentCost(1));
+        testCopurchasing.addParticipation(participation);
+        final Long participationId = participationRepository.save(participation).getId();
+        entityManager.flush();
+        copurchasingRepository.softDeleteById(copurchasingId, testCopurchasing.getVersion());
+        entityManager.clear();
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> copurchasingService.participationDelete(new ParticipationDeleteRequest(participationId, participantId)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.COPURCHASING_NOT_FOUND);
     }
 
     @Test
@@ -477,9 +867,9 @@ class CopurchasingServiceTest {
         // when
         // then
         Assertions.assertThatThrownBy(() -> copurchasingService.participationDelete(participationDeleteRequest))
-                .isInstanceOf(IllegalArgumentException.class)
-                .extracting("message")
-                .isEqualTo("이미 시작한 공동구매는 참여 취소가 불가합니다.");
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ALREADY_STARTED_CANCEL);
     }
 
     @Test
@@ -533,8 +923,118 @@ class CopurchasingServiceTest {
         // when
         // then
         Assertions.assertThatThrownBy(() -> copurchasingService.participationDelete(participationDeleteRequest))
-                .isInstanceOf(IllegalArgumentException.class)
-                .extracting("message")
-                .isEqualTo("작성자는 참여 취소가 불가합니다.");
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.WRITER_CANT_CANCEL);
+    }
+
+    @Test
+    @DisplayName("공동구매 참여는 정해진 SQL 문 수 안에서 처리된다.")
+    void participationCreateStatementBudget() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+        final User participant = saveParticipant(0);
+        final ParticipationCreateRequest request = ParticipationCreateRequest.builder()
+                .participantId(participant.getId())
+                .purchaseNumber(1)
+                .copurchasingId(copurchasingId)
+                .build();
+
+        // when
+        // then
+        new SqlStatementBudget(entityManager).assertAtMost(BUDGET_PARTICIPATION_CREATE,
+                () -> copurchasingService.participationCreate(request));
+    }
+
+    @Test
+    @DisplayName("공동구매 참여 취소는 정해진 SQL 문 수 안에서 처리된다.")
+    void participationDeleteStatementBudget() {
+        // given
+        userRepository.save(writer);
+        final Long copurchasingId = copurchasingRepository.save(testCopurchasing).getId();
+        final User participant = saveParticipant(0);
+        final Long participationId = copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .participantId(participant.getId())
+                .purchaseNumber(1)
+                .copurchasingId(copurchasingId)
+                .build());
+        final ParticipationDeleteRequest request = new ParticipationDeleteRequest(participationId, participant.getId());
+
+        // when
+        // then
+        new SqlStatementBudget(entityManager).assertAtMost(BUDGET_PARTICIPATION_DELETE,
+                () -> copurchasingService.participationDelete(request));
+    }
+
+    @Test
+    @DisplayName("게시물 삭제는 참여자 수와 무관하게 정해진 SQL 문 수 안에서 처리된다.")
+    void deleteStatementBudget() {
+        // given
+        final Long writerId = userRepository.save(writer).getId();
+        final Long onePostId = saveCopurchasingWithParticipants(1, 0);
+        final Long tenPostId = saveCopurchasingWithParticipants(10, 1);
+        final SqlStatementBudget budget = new SqlStatementBudget(entityManager);
+
+        // when
+        final int oneParticipantStatements = budget.count(() -> copurchasingService.delete(writerId, onePostId));
+        final int tenParticipantsStatements = budget.count(() -> copurchasingService.delete(writerId, tenPostId));
+
+        // then
+        Assertions.assertThat(tenParticipantsStatements).isEqualTo(oneParticipantStatements);
+        Assertions.assertThat(tenParticipantsStatements).isLessThanOrEqualTo(BUDGET_DELETE);
+    }
+
+    private Long saveCopurchasingWithParticipants(int participants, int participantOffset) {
+        final Copurchasing copurchasing = Copurchasing.builder()
+                .title("title")
+                .productMinNumber(20)
+                .productTotalCost(new ProductTotalCost(1000))
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(5))
+                .productMaxNumber(20)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(new ShippingCost(3000))
+                .writer(writer)
+                .purchaseNumber(1)
+                .build();
+        final Long copurchasingId = copurchasingRepository.save(copurchasing).getId();
+        IntStream.range(0, participants).forEach(i -> copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .participantId(saveParticipant(participantOffset * 100 + i).getId())
+                .purchaseNumber(1)
+                .copurchasingId(copurchasingId)
+                .build()));
+        return copurchasingId;
+    }
+
+    private User saveParticipant(int index) {
+        final User participant = User.builder()
+                .email("participant" + index)
+                .password("password")
+                .nickname("participant" + index)
+                .build();
+        participant.getPoint().add(10000);
+        return userRepository.save(participant);
+    }
+
+    // 다른 트랜잭션의 마감이 먼저 커밋된 상황을 만들기 위해 게시물 저장소 호출 하나를 가로챈다.
+    private CopurchasingRepository closedBefore(Long copurchasingId, BiConsumer<CopurchasingRepository, Long> interception) {
+        final CopurchasingRepository racingRepository = Mockito.mock(CopurchasingRepository.class,
+                AdditionalAnswers.delegatesTo(copurchasingRepository));
+        interception.accept(racingRepository, copurchasingId);
+        return racingRepository;
+    }
+
+    private CopurchasingService serviceWith(CopurchasingRepository repository) {
+        return new CopurchasingService(repository, userRepository, participationRepository, userService, pointService,
+                new CopurchasingSnapshotService(repository), eventPublisher);
+    }
+
+    private int currentPoint(User user) {
+        entityManager.flush();
+        entityManager.clear();
+        return userRepository.findById(user.getId()).get().getPoint().getAmount();
     }
-}
\ No newline at end of file
+}
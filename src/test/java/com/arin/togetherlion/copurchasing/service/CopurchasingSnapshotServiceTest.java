@@ -0,0 +1,105 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingSnapshot;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+// 캐시와 커밋 후 무효화를 확인하려면 실제 트랜잭션이 커밋되어야 하므로 전체 컨텍스트로 테스트한다.
+@SpringBootTest
+class CopurchasingSnapshotServiceTest {
+
+    @Autowired
+    private CopurchasingService copurchasingService;
+    @Autowired
+    private CopurchasingSnapshotService copurchasingSnapshotService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long copurchasingId;
+
+    @BeforeEach
+    void setUp() {
+        final User writer = saveUser("writer" + System.nanoTime());
+        copurchasingId = copurchasingService.create(CopurchasingCreateRequest.builder()
+                .title("title")
+                .productMinNumber(2)
+                .productTotalCost(10000)
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(5))
+                .productMaxNumber(5)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(2000)
+                .writerId(writer.getId())
+                .purchaseNumber(1)
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 게시물 요약을 다시 조회하면 캐시에서 반환된다.")
+    void cached() {
+        // given
+        final double hits = cacheGets("hit");
+
+        // when
+        final CopurchasingSnapshot first = copurchasingSnapshotService.find(copurchasingId);
+        final CopurchasingSnapshot second = copurchasingSnapshotService.find(copurchasingId);
+
+        // then
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(cacheGets("hit")).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("참여가 커밋되면 캐시된 요약이 무효화되어 새 모집 현황이 조회된다.")
+    void evictedAfterParticipation() {
+        // given
+        final CopurchasingSnapshot before = copurchasingSnapshotService.find(copurchasingId);
+        final User participant = saveUser("participant" + System.nanoTime());
+
+        // when
+        copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(2)
+                .build());
+
+        // then
+        final CopurchasingSnapshot after = copurchasingSnapshotService.find(copurchasingId);
+        Assertions.assertThat(before.getTotalProductNumber()).isEqualTo(1);
+        Assertions.assertThat(after.getTotalProductNumber()).isEqualTo(3);
+        Assertions.assertThat(after.getParticipantCount()).isEqualTo(2);
+    }
+
+    private User saveUser(String nickname) {
+        final User user = User.builder()
+                .email(nickname)
+                .password("password")
+                .nickname(nickname)
+                .build();
+        user.getPoint().add(100000);
+        return userRepository.save(user);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CopurchasingSnapshotService.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,145 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.Copurchasing;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.ProductTotalCost;
+import com.arin.togetherlion.copurchasing.domain.ShippingCost;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationOutcome;
+import com.arin.togetherlion.copurchasing.repository.CopurchasingRepository;
+import com.arin.togetherlion.copurchasing.repository.ParticipationRepository;
+import com.arin.togetherlion.point.repository.PointHistoryRepository;
+import com.arin.togetherlion.point.service.PointService;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+
+@DataJpaTest
+class ParticipationBatchServiceTest {
+
+    @Autowired
+    private CopurchasingRepository copurchasingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ParticipationRepository participationRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private ParticipationBatchService participationBatchService;
+
+    private Long copurchasingId;
+
+    @BeforeEach
+    void setUp() {
+        participationBatchService = new ParticipationBatchService(copurchasingRepository, userRepository, participationRepository,
+                new PointService(userRepository, pointHistoryRepository), eventPublisher);
+
+        final User writer = saveUser("writer", 0);
+        copurchasingId = copurchasingRepository.save(Copurchasing.builder()
+                .title("title")
+                .productMinNumber(2)
+                .productTotalCost(new ProductTotalCost(1000))
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(5))
+                .productMaxNumber(5)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(new ShippingCost(3000))
+                .writer(writer)
+                .purchaseNumber(0)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("여러 참여 요청을 한 번에 처리하고 요청 순서대로 결과를 반환한다.")
+    void participateAll() {
+        // given
+        final User first = saveUser("first", 10000);
+        final User second = saveUser("second", 10000);
+
+        // when
+        final List<ParticipationOutcome> outcomes = participationBatchService.participateAll(copurchasingId,
+                List.of(request(first, 2), request(second, 1)));
+
+        // then
+        Assertions.assertThat(outcomes).allMatch(ParticipationOutcome::isSucceeded);
+        Assertions.assertThat(participationRepository.findAllById(outcomes.stream().map(ParticipationOutcome::getParticipationId).toList()))
+                .hasSize(2);
+        final Copurchasing copurchasing = copurchasingRepository.findById(copurchasingId).get();
+        Assertions.assertThat(copurchasing.getTotalProductNumber()).isEqualTo(3);
+        Assertions.assertThat(copurchasing.getParticipantCount()).isEqualTo(2);
+        Assertions.assertThat(currentPoint(first)).isEqualTo(6000);
+        Assertions.assertThat(currentPoint(second)).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("중복 참여, 포인트 부족, 수량 초과 요청만 실패하고 나머지는 반영된다.")
+    void participateAllWithFailures() {
+        // given
+        final User first = saveUser("first", 10000);
+        final User poor = saveUser("poor", 100);
+        final User late = saveUser("late", 10000);
+        final User last = saveUser("last", 10000);
+
+        // when
+        final List<ParticipationOutcome> outcomes = participationBatchService.participateAll(copurchasingId, List.of(
+                request(first, 4),
+                request(first, 1),
+                request(poor, 1),
+                request(late, 2),
+                request(last, 1)));
+
+        // then
+        Assertions.assertThat(outcomes).extracting(ParticipationOutcome::isSucceeded)
+                .containsExactly(true, false, false, false, true);
+        Assertions.assertThat(outcomes).extracting(ParticipationOutcome::getFailureMessage)
+                .containsExactly(null, ErrorCode.CANT_JOIN.getMessage(), "포인트가 부족합니다.",
+                        "남은 상품 개수보다 많이 구매할 수 없습니다.", null);
+        final Copurchasing copurchasing = copurchasingRepository.findById(copurchasingId).get();
+        Assertions.assertThat(copurchasing.getTotalProductNumber()).isEqualTo(5);
+        Assertions.assertThat(copurchasing.getStatus()).isEqualTo(CopurchasingStatus.FULL);
+        Assertions.assertThat(currentPoint(poor)).isEqualTo(100);
+        Assertions.assertThat(currentPoint(late)).isEqualTo(10000);
+    }
+
+    private User saveUser(String nickname, int point) {
+        final User user = User.builder()
+                .email("email")
+                .password("password")
+                .nickname(nickname)
+                .build();
+        user.getPoint().add(point);
+        return userRepository.save(user);
+    }
+
+    private ParticipationCreateRequest request(User participant, int purchaseNumber) {
+        return ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(purchaseNumber)
+                .build();
+    }
+
+    private int currentPoint(User user) {
+        entityManager.flush();
+        entityManager.clear();
+        return userRepository.findById(user.getId()).get().getPoint().getAmount();
+    }
+}
@@ -0,0 +1,155 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.ParticipationTicket;
+import com.arin.togetherlion.copurchasing.domain.ParticipationTicketStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationOutcome;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParticipationQueueServiceTest {
+
+    private CopurchasingService copurchasingService;
+    private ParticipationBatchService participationBatchService;
+    private ParticipationQueueService participationQueueService;
+
+    @BeforeEach
+    void setUp() {
+        copurchasingService = mock(CopurchasingService.class);
+        participationBatchService = mock(ParticipationBatchService.class);
+        participationQueueService = new ParticipationQueueService(copurchasingService, participationBatchService, 2, 1, 10, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        participationQueueService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 참여 요청은 비동기로 처리되고 티켓으로 결과를 조회할 수 있다.")
+    void enqueue() {
+        // given
+        when(participationBatchService.participateAll(anyLong(), anyList()))
+                .thenReturn(List.of(ParticipationOutcome.success(10L)));
+
+        // when
+        final ParticipationTicket ticket = participationQueueService.enqueue(request(1L));
+
+        // then
+        Awaitility.await().atMost(Duration.ofSeconds(3))
+                .until(() -> participationQueueService.findTicket(ticket.getId()).getStatus() != ParticipationTicketStatus.PENDING);
+        Assertions.assertThat(ticket.getStatus()).isEqualTo(ParticipationTicketStatus.SUCCEEDED);
+        Assertions.assertThat(ticket.getParticipationId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("배치 처리가 롤백되면 요청별로 다시 처리하고, 실패한 요청은 실패 사유와 함께 기록된다.")
+    void enqueueFail() {
+        // given
+        when(participationBatchService.participateAll(anyLong(), anyList()))
+                .thenThrow(CustomException.of(ErrorCode.CONCURRENT_MODIFICATION));
+        when(copurchasingService.participationCreate(any(ParticipationCreateRequest.class)))
+                .thenThrow(CustomException.of(ErrorCode.CANT_JOIN));
+
+        // when
+        final ParticipationTicket ticket = participationQueueService.enqueue(request(1L));
+
+        // then
+        Awaitility.await().atMost(Duration.ofSeconds(3))
+                .until(() -> ticket.getStatus() != ParticipationTicketStatus.PENDING);
+        Assertions.assertThat(ticket.getStatus()).isEqualTo(ParticipationTicketStatus.FAILED);
+        Assertions.assertThat(ticket.getFailureMessage()).isEqualTo(ErrorCode.CANT_JOIN.getMessage());
+    }
+
+    @Test
+    @DisplayName("도메인 예외가 아닌 실패는 내부 오류 메시지 대신 일반 실패 메시지로 기록된다.")
+    void enqueueFailWithUnexpectedException() {
+        // given
+        when(participationBatchService.participateAll(anyLong(), anyList()))
+                .thenThrow(new IllegalStateException("could not execute statement [SQL: insert into participation ...]"));
+        when(copurchasingService.participationCreate(any(ParticipationCreateRequest.class)))
+                .thenThrow(new IllegalStateException("could not execute statement [SQL: insert into participation ...]"));
+
+        // when
+        final ParticipationTicket ticket = participationQueueService.enqueue(request(1L));
+
+        // then
+        Awaitility.await().atMost(Duration.ofSeconds(3))
+                .until(() -> ticket.getStatus() != ParticipationTicketStatus.PENDING);
+        Assertions.assertThat(ticket.getStatus()).isEqualTo(ParticipationTicketStatus.FAILED);
+        Assertions.assertThat(ticket.getFailureMessage()).isEqualTo(ErrorCode.PARTICIPATION_FAILED.getMessage());
+    }
+
+    @Test
+    @DisplayName("게시물의 대기열이 가득 차면 예외가 발생한다.")
+    void queueFull() throws InterruptedException {
+        // given
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(participationBatchService.participateAll(anyLong(), anyList())).thenAnswer(invocation -> {
+            blocked.countDown();
+            release.await();
+            return List.of(ParticipationOutcome.success(1L));
+        });
+        participationQueueService.enqueue(request(1L));
+        blocked.await(3, TimeUnit.SECONDS);
+        participationQueueService.enqueue(request(1L));
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> participationQueueService.enqueue(request(1L)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.QUEUE_FULL);
+        Assertions.assertThatCode(() -> participationQueueService.enqueue(request(2L)))
+                .doesNotThrowAnyException();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 지 오래된 티켓은 제거된다.")
+    void evictCompletedBefore() {
+        // given
+        when(participationBatchService.participateAll(anyLong(), anyList()))
+                .thenReturn(List.of(ParticipationOutcome.success(10L)));
+        final ParticipationTicket ticket = participationQueueService.enqueue(request(1L));
+        Awaitility.await().atMost(Duration.ofSeconds(3))
+                .until(() -> ticket.getStatus() != ParticipationTicketStatus.PENDING);
+
+        // when
+        final int evicted = participationQueueService.evictCompletedBefore(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        Assertions.assertThat(evicted).isEqualTo(1);
+        Assertions.assertThatThrownBy(() -> participationQueueService.findTicket(ticket.getId()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TICKET_NOT_FOUND);
+    }
+
+    private ParticipationCreateRequest request(Long copurchasingId) {
+        return ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .purchaseNumber(1)
+                .participantId(2L)
+                .build();
+    }
+}
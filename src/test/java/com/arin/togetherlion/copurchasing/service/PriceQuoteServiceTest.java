@@ -0,0 +1,147 @@
+package com.arin.togetherlion.copurchasing.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.PriceQuoteResponse;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+// 견적은 캐시된 요약으로 계산되므로, 참여 커밋 후 무효화까지 확인하기 위해 전체 컨텍스트로 테스트한다.
+@SpringBootTest
+class PriceQuoteServiceTest {
+
+    @Autowired
+    private CopurchasingService copurchasingService;
+    @Autowired
+    private PriceQuoteService priceQuoteService;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long copurchasingId;
+
+    @BeforeEach
+    void setUp() {
+        final User writer = saveUser("writer" + System.nanoTime());
+        copurchasingId = copurchasingService.create(CopurchasingCreateRequest.builder()
+                .title("title")
+                .productMinNumber(2)
+                .productTotalCost(10000)
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(5))
+                .productMaxNumber(5)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(2000)
+                .writerId(writer.getId())
+                .purchaseNumber(1)
+                .build());
+    }
+
+    @Test
+    @DisplayName("최소 상품 개수 기준 금액과 요청 개수를 더한 현재 수량 기준 예상 금액을 반환한다.")
+    void quote() {
+        // given
+        int purchaseNumber = 2;
+
+        // when
+        final PriceQuoteResponse quote = priceQuoteService.quote(copurchasingId, purchaseNumber);
+
+        // then
+        Assertions.assertThat(quote.getGuaranteedUnitPrice()).isEqualTo(6000);
+        Assertions.assertThat(quote.getGuaranteedPaymentCost()).isEqualTo(12000);
+        Assertions.assertThat(quote.getProjectedUnitPrice()).isEqualTo(4000);
+        Assertions.assertThat(quote.getProjectedPaymentCost()).isEqualTo(8000);
+        Assertions.assertThat(quote.getRemainingProductNumber()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("견적의 보장 금액은 참여 시 실제 결제되는 포인트와 같다.")
+    void guaranteedPaymentCostEqualsCharged() {
+        // given
+        final User participant = saveUser("participant" + System.nanoTime());
+        final int before = participant.getPoint().getAmount();
+        final PriceQuoteResponse quote = priceQuoteService.quote(copurchasingId, 2);
+
+        // when
+        copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(2)
+                .build());
+
+        // then
+        final User paid = userRepository.findById(participant.getId()).orElseThrow();
+        Assertions.assertThat(before - paid.getPoint().getAmount()).isEqualTo(quote.getGuaranteedPaymentCost());
+    }
+
+    @Test
+    @DisplayName("참여가 커밋되면 늘어난 모집 수량과 새 버전으로 견적을 다시 계산한다.")
+    void quoteAfterParticipation() {
+        // given
+        final PriceQuoteResponse before = priceQuoteService.quote(copurchasingId, 1);
+        final User participant = saveUser("participant" + System.nanoTime());
+
+        // when
+        copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(2)
+                .build());
+
+        // then
+        final PriceQuoteResponse after = priceQuoteService.quote(copurchasingId, 1);
+        Assertions.assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        Assertions.assertThat(before.getProjectedUnitPrice()).isEqualTo(6000);
+        Assertions.assertThat(after.getProjectedUnitPrice()).isEqualTo(3000);
+        Assertions.assertThat(after.getGuaranteedUnitPrice()).isEqualTo(6000);
+    }
+
+    @Test
+    @DisplayName("남은 상품 개수보다 많은 개수로 견적을 요청하면 예외가 발생한다.")
+    void quoteExceedsRemainingNumber() {
+        // given
+        int purchaseNumber = 5;
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> priceQuoteService.quote(copurchasingId, purchaseNumber))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXCEEDS_REMAINING_NUMBER);
+    }
+
+    @Test
+    @DisplayName("상품 개수가 1 미만이면 예외가 발생한다.")
+    void quoteInvalidPurchaseNumber() {
+        // given
+        int purchaseNumber = 0;
+
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> priceQuoteService.quote(copurchasingId, purchaseNumber))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PURCHASE_NUMBER);
+    }
+
+    private User saveUser(String nickname) {
+        final User user = User.builder()
+                .email(nickname)
+                .password("password")
+                .nickname(nickname)
+                .build();
+        user.getPoint().add(100000);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,265 @@
+package com.arin.togetherlion.outbox.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationDeleteRequest;
+import com.arin.togetherlion.copurchasing.service.CopurchasingService;
+import com.arin.togetherlion.outbox.domain.OutboxEvent;
+import com.arin.togetherlion.outbox.domain.dto.OutboxMessage;
+import com.arin.togetherlion.outbox.repository.OutboxEventRepository;
+import com.arin.togetherlion.outbox.sink.InMemoryOutboxSink;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 아웃박스는 커밋 직전에 기록되므로 실제 트랜잭션이 커밋되는 전체 컨텍스트로 테스트한다.
+// 스케줄러가 먼저 전달하지 않도록 주기를 늘려 릴레이를 직접 실행한다.
+@SpringBootTest(properties = "outbox.relay.fixed-delay=3600000")
+class OutboxRelayServiceTest {
+
+    @Autowired
+    private CopurchasingService copurchasingService;
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private InMemoryOutboxSink inMemoryOutboxSink;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        // 보류됐던 이벤트는 앞선 이벤트가 전달된 다음 실행에서 전달되므로 남은 이벤트가 없을 때까지 비운다.
+        int relayed;
+        do {
+            relayed = outboxRelayService.relay(1000, MAX_ATTEMPTS);
+        } while (relayed > 0);
+        inMemoryOutboxSink.clear();
+        writer = saveUser("writer" + System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("게시물의 상태 변경 이벤트가 발생한 순서대로 전달된다.")
+    void relayInOrder() {
+        // given
+        final Long copurchasingId = create();
+        final User participant = saveUser("participant" + System.nanoTime());
+        final Long participationId = copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(1)
+                .build());
+        copurchasingService.participationDelete(new ParticipationDeleteRequest(participationId, participant.getId()));
+
+        // when
+        outboxRelayService.relay(100, MAX_ATTEMPTS);
+
+        // then
+        Assertions.assertThat(eventTypes(inMemoryOutboxSink.getMessages(), copurchasingId))
+                .containsExactly("CopurchasingCreatedEvent", "ParticipationAddedEvent",
+                        "ParticipationRemovedEvent", "PointsRefundedEvent");
+        Assertions.assertThat(outboxEventRepository.findUnpublished(Limit.of(100))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이벤트에는 기록할 때의 게시물 버전이 담기고, 기록 시각이 어긋나도 게시물 버전 순서대로 전달된다.")
+    void relayInVersionOrderWithSkewedClock() {
+        // given
+        final Long copurchasingId = create();
+        final User participant = saveUser("participant" + System.nanoTime());
+        final Long participationId = copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(1)
+                .build());
+        copurchasingService.participationDelete(new ParticipationDeleteRequest(participationId, participant.getId()));
+        // 시각이 앞선 서버에서 게시물을 만든 것처럼 생성 이벤트의 기록 시각을 가장 늦게 바꾼다.
+        jdbcTemplate.update("UPDATE outbox_event SET created_date = ? WHERE aggregate_id = ? AND event_type = ?",
+                LocalDateTime.now().plusMinutes(1), copurchasingId, "CopurchasingCreatedEvent");
+
+        // when
+        outboxRelayService.relay(2, MAX_ATTEMPTS);
+        outboxRelayService.relay(2, MAX_ATTEMPTS);
+        outboxRelayService.relay(2, MAX_ATTEMPTS);
+
+        // then
+        Assertions.assertThat(events(copurchasingId)).extracting(OutboxEvent::getAggregateVersion)
+                .containsExactlyInAnyOrder(0L, 1L, 2L, 2L);
+        Assertions.assertThat(eventTypes(inMemoryOutboxSink.getMessages(), copurchasingId))
+                .containsExactly("CopurchasingCreatedEvent", "ParticipationAddedEvent",
+                        "ParticipationRemovedEvent", "PointsRefundedEvent");
+    }
+
+    @Test
+    @DisplayName("롤백된 요청의 이벤트는 아웃박스에 남지 않는다.")
+    void rolledBack() {
+        // given
+        final Long copurchasingId = create();
+        final User participant = saveUser("participant" + System.nanoTime());
+
+        // when
+        Assertions.assertThatThrownBy(() -> copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                        .copurchasingId(copurchasingId)
+                        .participantId(participant.getId())
+                        .purchaseNumber(10)
+                        .build()))
+                .isInstanceOf(CustomException.class);
+
+        // then
+        Assertions.assertThat(outboxEventRepository.findAll().stream()
+                        .filter(event -> event.getAggregateId().equals(copurchasingId))
+                        .map(OutboxEvent::getEventType))
+                .containsExactly("CopurchasingCreatedEvent");
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 게시물의 이후 이벤트는 보류되고, 다른 게시물의 이벤트는 전달된다.")
+    void blockedAggregate() {
+        // given
+        final Long failingId = create();
+        final Long otherId = create();
+        join(failingId);
+        final List<OutboxMessage> delivered = new ArrayList<>();
+
+        // when
+        failingRelay(failingId, delivered).relay(100, MAX_ATTEMPTS);
+        // 실패한 이벤트가 먼저 전달된 뒤 다음 실행에서 이후 이벤트가 이어서 전달된다.
+        outboxRelayService.relay(100, MAX_ATTEMPTS);
+        outboxRelayService.relay(100, MAX_ATTEMPTS);
+
+        // then
+        Assertions.assertThat(eventTypes(delivered, failingId)).isEmpty();
+        Assertions.assertThat(eventTypes(delivered, otherId)).containsExactly("CopurchasingCreatedEvent");
+        Assertions.assertThat(eventTypes(inMemoryOutboxSink.getMessages(), failingId))
+                .containsExactly("CopurchasingCreatedEvent", "ParticipationAddedEvent");
+        Assertions.assertThat(attempts(failingId)).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 게시물의 보류된 이벤트가 배치를 채워도 다른 게시물의 이벤트는 전달된다.")
+    void blockedAggregateDoesNotStarveOthers() {
+        // given
+        final Long failingId = create();
+        join(failingId);
+        join(failingId);
+        final Long otherId = create();
+        final List<OutboxMessage> delivered = new ArrayList<>();
+        final OutboxRelayService failingRelay = failingRelay(failingId, delivered);
+
+        // when
+        failingRelay.relay(2, MAX_ATTEMPTS);
+        failingRelay.relay(2, MAX_ATTEMPTS);
+
+        // then
+        Assertions.assertThat(eventTypes(delivered, otherId)).containsExactly("CopurchasingCreatedEvent");
+        Assertions.assertThat(attempts(failingId)).containsExactly(2, 0, 0);
+    }
+
+    @Test
+    @DisplayName("재시도 한도만큼 실패한 이벤트는 보류되어 같은 게시물의 이벤트와 함께 더 이상 전달되지 않는다.")
+    void parkAfterMaxAttempts() {
+        // given
+        final Long failingId = create();
+        join(failingId);
+        final OutboxRelayService failingRelay = failingRelay(failingId, new ArrayList<>());
+
+        // when
+        failingRelay.relay(100, 2);
+        failingRelay.relay(100, 2);
+        failingRelay.relay(100, 2);
+
+        // then
+        final List<OutboxEvent> events = events(failingId);
+        Assertions.assertThat(events).extracting(OutboxEvent::getAttempts).containsExactly(2, 0);
+        Assertions.assertThat(events.get(0).getParkedAt()).isNotNull();
+        Assertions.assertThat(events.get(0).getLastError()).contains("sink unavailable");
+        Assertions.assertThat(outboxEventRepository.findUnpublished(Limit.of(1000)))
+                .extracting(OutboxEvent::getAggregateId)
+                .doesNotContain(failingId);
+    }
+
+    private OutboxRelayService failingRelay(Long failingId, List<OutboxMessage> delivered) {
+        return new OutboxRelayService(outboxEventRepository, message -> {
+            if (message.getAggregateId().equals(failingId))
+                throw new IllegalStateException("sink unavailable");
+            delivered.add(message);
+        }, new SimpleMeterRegistry());
+    }
+
+    private void join(Long copurchasingId) {
+        final User participant = saveUser("participant" + System.nanoTime());
+        copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(1)
+                .build());
+    }
+
+    private List<OutboxEvent> events(Long copurchasingId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(copurchasingId))
+                .sorted(Comparator.comparing(OutboxEvent::getCreatedDate).thenComparing(OutboxEvent::getId))
+                .toList();
+    }
+
+    private List<Integer> attempts(Long copurchasingId) {
+        return events(copurchasingId).stream()
+                .map(OutboxEvent::getAttempts)
+                .toList();
+    }
+
+    private Long create() {
+        return copurchasingService.create(CopurchasingCreateRequest.builder()
+                .title("title")
+                .productMinNumber(2)
+                .productTotalCost(10000)
+                .purchasePhotoUrl("url")
+                .tradeDate(LocalDateTime.now().plusDays(10))
+                .deadlineDate(LocalDateTime.now().plusDays(5))
+                .productMaxNumber(5)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(2000)
+                .writerId(writer.getId())
+                .purchaseNumber(1)
+                .build());
+    }
+
+    private List<String> eventTypes(List<OutboxMessage> messages, Long copurchasingId) {
+        return messages.stream()
+                .filter(message -> message.getAggregateId().equals(copurchasingId))
+                .map(OutboxMessage::getEventType)
+                .toList();
+    }
+
+    private User saveUser(String nickname) {
+        final User user = User.builder()
+                .email(nickname)
+                .password("password")
+                .nickname(nickname)
+                .build();
+        user.getPoint().add(100000);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,39 @@
+package com.arin.togetherlion.outbox.sink;
+
+import com.arin.togetherlion.outbox.domain.dto.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class FileOutboxSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("메시지를 한 줄에 하나씩 JSON 으로 덧붙인다.")
+    void appendJsonLines() throws Exception {
+        // given
+        final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        final Path path = directory.resolve("outbox/events.jsonl");
+        final FileOutboxSink sink = new FileOutboxSink(objectMapper, path);
+
+        // when
+        sink.send(new OutboxMessage(1L, "copurchasing", 10L, 0L, "CopurchasingCreatedEvent", "{\"copurchasingId\":10}", LocalDateTime.now()));
+        sink.send(new OutboxMessage(2L, "copurchasing", 10L, 1L, "CopurchasingDeletedEvent", "{\"copurchasingId\":10}", LocalDateTime.now()));
+
+        // then
+        final List<String> lines = Files.readAllLines(path);
+        Assertions.assertThat(lines).hasSize(2);
+        Assertions.assertThat(objectMapper.readValue(lines.get(1), OutboxMessage.class).getEventType())
+                .isEqualTo("CopurchasingDeletedEvent");
+    }
+}
@@ -1,5 +1,7 @@
 package com.arin.togetherlion.point.domain;
 
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +18,9 @@ class PointTest {
         //when
         //then
         assertThatThrownBy(() -> new Point(wrongValue))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NEGATIVE_POINT);
     }
 
     @Test
@@ -28,7 +32,9 @@ class PointTest {
         //when
         //then
         assertThatThrownBy(() -> wrongPoint.use(2000))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NEGATIVE_POINT);
     }
 
     @Test
@@ -40,7 +46,9 @@ class PointTest {
         //when
         //then
         assertThatThrownBy(() -> wrongPoint.add(-1000))
-                .isInstanceOf(IllegalArgumentException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NEGATIVE_POINT_AMOUNT);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.arin.togetherlion.point.service;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.point.domain.PointHistoryType;
+import com.arin.togetherlion.point.repository.PointHistoryRepository;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Map;
+
+@DataJpaTest
+class PointServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PointService pointService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        pointService = new PointService(userRepository, pointHistoryRepository);
+
+        user = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        user.getPoint().add(10000);
+        userRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("포인트를 사용하면 잔액이 차감되고 사용 내역이 기록된다.")
+    void use() {
+        // when
+        pointService.use(user.getId(), 4000);
+
+        // then
+        Assertions.assertThat(currentPoint()).isEqualTo(6000);
+        Assertions.assertThat(pointHistoryRepository.findByUserId(user.getId()))
+                .extracting("type", "amount")
+                .containsExactly(Assertions.tuple(PointHistoryType.USE, 4000));
+    }
+
+    @Test
+    @DisplayName("잔액보다 많은 포인트를 사용할 시 예외가 발생하고 잔액은 유지된다.")
+    void useFail() {
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> pointService.use(user.getId(), 10001))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INSUFFICIENT_POINT);
+        Assertions.assertThat(currentPoint()).isEqualTo(10000);
+        Assertions.assertThat(pointHistoryRepository.findByUserId(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("포인트를 환급하면 잔액이 증가하고 충전 내역이 기록된다.")
+    void charge() {
+        // when
+        pointService.charge(user.getId(), 3000);
+
+        // then
+        Assertions.assertThat(currentPoint()).isEqualTo(13000);
+        Assertions.assertThat(pointHistoryRepository.findByUserId(user.getId()))
+                .extracting("type", "amount")
+                .containsExactly(Assertions.tuple(PointHistoryType.CHARGE, 3000));
+    }
+
+    @Test
+    @DisplayName("여러 사용자에게 한 번에 포인트를 환급할 수 있다.")
+    void chargeAll() {
+        // given
+        final User other = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        userRepository.save(other);
+
+        // when
+        pointService.chargeAll(Map.of(user.getId(), 1000, other.getId(), 2500));
+
+        // then
+        Assertions.assertThat(currentPoint()).isEqualTo(11000);
+        Assertions.assertThat(userRepository.findById(other.getId()).get().getPoint().getAmount()).isEqualTo(2500);
+        Assertions.assertThat(pointHistoryRepository.findByUserId(other.getId()))
+                .extracting("type", "amount")
+                .containsExactly(Assertions.tuple(PointHistoryType.CHARGE, 2500));
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 포인트를 한 번에 차감하고, 잔액이 부족한 사용자가 있으면 false 를 반환한다.")
+    void tryUseAll() {
+        // given
+        final User other = User.builder()
+                .email("email")
+                .password("password")
+                .nickname("nickname")
+                .build();
+        other.getPoint().add(2000);
+        userRepository.save(other);
+
+        // when
+        final boolean used = pointService.tryUseAll(Map.of(user.getId(), 4000, other.getId(), 2000));
+        final boolean usedOverBalance = pointService.tryUseAll(Map.of(user.getId(), 1000, other.getId(), 1));
+
+        // then
+        Assertions.assertThat(used).isTrue();
+        Assertions.assertThat(usedOverBalance).isFalse();
+        entityManager.clear();
+        Assertions.assertThat(userRepository.findById(other.getId()).get().getPoint().getAmount()).isZero();
+        Assertions.assertThat(pointHistoryRepository.findByUserId(other.getId()))
+                .extracting("type", "amount")
+                .containsExactly(Assertions.tuple(PointHistoryType.USE, 2000));
+    }
+
+    @Test
+    @DisplayName("포인트 연산에 음수 값이 들어온다면 예외가 발생한다.")
+    void negativeAmountFail() {
+        // when
+        // then
+        Assertions.assertThatThrownBy(() -> pointService.use(user.getId(), -1000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NEGATIVE_POINT_AMOUNT);
+        Assertions.assertThatThrownBy(() -> pointService.charge(user.getId(), -1000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NEGATIVE_POINT_AMOUNT);
+    }
+
+    private int currentPoint() {
+        entityManager.flush();
+        entityManager.clear();
+        return userRepository.findById(user.getId()).get().getPoint().getAmount();
+    }
+}
@@ -0,0 +1,68 @@
+package com.arin.togetherlion.user.controller;
+
+import com.arin.togetherlion.common.CustomException;
+import com.arin.togetherlion.common.ErrorCode;
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.user.domain.CopurchasingRole;
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingPageResponse;
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingResponse;
+import com.arin.togetherlion.user.service.UserCopurchasingQueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@Import(SimpleMeterRegistry.class)
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserCopurchasingQueryService userCopurchasingQueryService;
+
+    @Test
+    @DisplayName("/users/{id}/copurchasings get 요청 시 사용자의 공동구매 목록과 200 응답을 반환한다.")
+    void findCopurchasingsSuccess() throws Exception {
+        Long userId = 1L;
+        UserCopurchasingPageResponse response = new UserCopurchasingPageResponse(List.of(
+                new UserCopurchasingResponse(10L, "title", CopurchasingRole.PARTICIPANT, 2, 12000,
+                        CopurchasingStatus.RECRUITING, LocalDateTime.now().plusDays(3))), false, null);
+
+        when(userCopurchasingQueryService.findAll(userId, null, 20)).thenReturn(response);
+
+        mockMvc.perform(get("/users/{userId}/copurchasings", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.copurchasings[0].copurchasingId").value(10))
+                .andExpect(jsonPath("$.copurchasings[0].role").value("PARTICIPANT"))
+                .andExpect(jsonPath("$.copurchasings[0].paymentPoint").value(12000))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("/users/{id}/copurchasings 페이지 크기가 범위를 벗어난 get 요청 시 400 응답을 반환한다.")
+    void findCopurchasingsFail() throws Exception {
+        Long userId = 1L;
+
+        when(userCopurchasingQueryService.findAll(userId, null, 0)).thenThrow(CustomException.of(ErrorCode.INVALID_PAGE_SIZE));
+
+        mockMvc.perform(get("/users/{userId}/copurchasings", userId)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,176 @@
+package com.arin.togetherlion.user.service;
+
+import com.arin.togetherlion.copurchasing.domain.CopurchasingStatus;
+import com.arin.togetherlion.copurchasing.domain.dto.CopurchasingCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ExpiredCopurchasing;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationCreateRequest;
+import com.arin.togetherlion.copurchasing.domain.dto.ParticipationDeleteRequest;
+import com.arin.togetherlion.copurchasing.service.CopurchasingDeadlineService;
+import com.arin.togetherlion.copurchasing.service.CopurchasingService;
+import com.arin.togetherlion.user.domain.CopurchasingRole;
+import com.arin.togetherlion.user.domain.User;
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingPageResponse;
+import com.arin.togetherlion.user.domain.dto.UserCopurchasingResponse;
+import com.arin.togetherlion.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+// 읽기 모델은 커밋 직전에 갱신되므로 실제 트랜잭션이 커밋되는 전체 컨텍스트로 테스트한다.
+@SpringBootTest
+class UserCopurchasingProjectionTest {
+
+    @Autowired
+    private CopurchasingService copurchasingService;
+    @Autowired
+    private CopurchasingDeadlineService copurchasingDeadlineService;
+    @Autowired
+    private UserCopurchasingQueryService userCopurchasingQueryService;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User writer;
+    private User participant;
+    private LocalDateTime deadlineDate;
+
+    @BeforeEach
+    void setUp() {
+        writer = saveUser("writer" + System.nanoTime());
+        participant = saveUser("participant" + System.nanoTime());
+        deadlineDate = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    @DisplayName("작성과 참여가 사용자별 목록에 역할, 구매 개수, 결제 포인트와 함께 반영된다.")
+    void projectCreateAndParticipation() {
+        // given
+        final Long copurchasingId = create();
+
+        // when
+        participate(copurchasingId, 2);
+
+        // then
+        final UserCopurchasingResponse written = userCopurchasingQueryService.findAll(writer.getId(), null, 20).getCopurchasings().get(0);
+        final UserCopurchasingResponse joined = userCopurchasingQueryService.findAll(participant.getId(), null, 20).getCopurchasings().get(0);
+        Assertions.assertThat(written.getCopurchasingId()).isEqualTo(copurchasingId);
+        Assertions.assertThat(written.getRole()).isEqualTo(CopurchasingRole.WRITER);
+        Assertions.assertThat(written.getPaymentPoint()).isEqualTo(6000);
+        Assertions.assertThat(joined.getRole()).isEqualTo(CopurchasingRole.PARTICIPANT);
+        Assertions.assertThat(joined.getTitle()).isEqualTo("title");
+        Assertions.assertThat(joined.getPurchaseNumber()).isEqualTo(2);
+        Assertions.assertThat(joined.getPaymentPoint()).isEqualTo(12000);
+        Assertions.assertThat(joined.getStatus()).isEqualTo(CopurchasingStatus.RECRUITING);
+    }
+
+    @Test
+    @DisplayName("참여를 취소하면 참여자의 목록에서 빠진다.")
+    void projectParticipationDelete() {
+        // given
+        final Long copurchasingId = create();
+        final Long participationId = participate(copurchasingId, 1);
+
+        // when
+        copurchasingService.participationDelete(new ParticipationDeleteRequest(participationId, participant.getId()));
+
+        // then
+        Assertions.assertThat(userCopurchasingQueryService.findAll(participant.getId(), null, 20).getCopurchasings()).isEmpty();
+        Assertions.assertThat(userCopurchasingQueryService.findAll(writer.getId(), null, 20).getCopurchasings()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("게시물이 삭제되면 작성자와 참여자의 목록에서 모두 빠진다.")
+    void projectDelete() {
+        // given
+        final Long copurchasingId = create();
+        participate(copurchasingId, 1);
+
+        // when
+        copurchasingService.delete(writer.getId(), copurchasingId);
+
+        // then
+        Assertions.assertThat(userCopurchasingQueryService.findAll(writer.getId(), null, 20).getCopurchasings()).isEmpty();
+        Assertions.assertThat(userCopurchasingQueryService.findAll(participant.getId(), null, 20).getCopurchasings()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마감되면 게시물의 모든 행에 시작 또는 실패 상태가 반영된다.")
+    void projectClose() {
+        // given
+        final Long copurchasingId = create();
+        participate(copurchasingId, 1);
+
+        // when
+        copurchasingDeadlineService.close(copurchasingDeadlineService.findExpired(deadlineDate.plusSeconds(1), null, null, 500).stream()
+                .map(ExpiredCopurchasing::getId)
+                .toList());
+
+        // then
+        Assertions.assertThat(userCopurchasingQueryService.findAll(writer.getId(), null, 20).getCopurchasings())
+                .extracting(UserCopurchasingResponse::getStatus)
+                .containsExactly(CopurchasingStatus.STARTED);
+        Assertions.assertThat(userCopurchasingQueryService.findAll(participant.getId(), null, 20).getCopurchasings())
+                .extracting(UserCopurchasingResponse::getStatus)
+                .containsExactly(CopurchasingStatus.STARTED);
+    }
+
+    @Test
+    @DisplayName("최근 게시물부터 커서 기반으로 나누어 조회한다.")
+    void findAllWithCursor() {
+        // given
+        final Long first = create();
+        final Long second = create();
+        final Long third = create();
+
+        // when
+        final UserCopurchasingPageResponse page = userCopurchasingQueryService.findAll(writer.getId(), null, 2);
+        final UserCopurchasingPageResponse next = userCopurchasingQueryService.findAll(writer.getId(), page.getNextCursorId(), 2);
+
+        // then
+        Assertions.assertThat(page.getCopurchasings()).extracting(UserCopurchasingResponse::getCopurchasingId)
+                .containsExactly(third, second);
+        Assertions.assertThat(page.isHasNext()).isTrue();
+        Assertions.assertThat(next.getCopurchasings()).extracting(UserCopurchasingResponse::getCopurchasingId)
+                .containsExactly(first);
+        Assertions.assertThat(next.isHasNext()).isFalse();
+    }
+
+    private Long create() {
+        return copurchasingService.create(CopurchasingCreateRequest.builder()
+                .title("title")
+                .productMinNumber(2)
+                .productTotalCost(10000)
+                .purchasePhotoUrl("url")
+                .tradeDate(deadlineDate.plusDays(5))
+                .deadlineDate(deadlineDate)
+                .productMaxNumber(5)
+                .content("content")
+                .productUrl("url")
+                .shippingCost(2000)
+                .writerId(writer.getId())
+                .purchaseNumber(1)
+                .build());
+    }
+
+    private Long participate(Long copurchasingId, int purchaseNumber) {
+        return copurchasingService.participationCreate(ParticipationCreateRequest.builder()
+                .copurchasingId(copurchasingId)
+                .participantId(participant.getId())
+                .purchaseNumber(purchaseNumber)
+                .build());
+    }
+
+    private User saveUser(String nickname) {
+        final User user = User.builder()
+                .email(nickname)
+                .password("password")
+                .nickname(nickname)
+                .build();
+        user.getPoint().add(100000);
+        return userRepository.save(user);
+    }
+}